@@ -0,0 +1,91 @@
+package br.com.cursoudemy.productapi.config.interceptor;
+
+import br.com.cursoudemy.productapi.modules.jwt.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtil;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthInterceptorBenchmark {
+    private static final String API_SECRET = "YXV0aC1hcGktc2VjcmV0LWRldi0xMjM0NTY=";
+    private static final List<String> LEGACY_PROTECTED_URLS = List.of("api/product", "api/supplier", "api/category");
+    private AnnotationConfigApplicationContext context;
+    private JwtService jwtService;
+    private MappedInterceptor authInterceptor;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new AnnotationConfigApplicationContext();
+        this.context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "app-config.secrets.api-secret", API_SECRET,
+                "app-config.secrets.token-cache.size", "10000",
+                "app-config.secrets.token-cache.max-ttl-seconds", "300")));
+        this.context.register(SimpleMeterRegistry.class, JwtService.class);
+        this.context.refresh();
+        this.jwtService = this.context.getBean(JwtService.class);
+        this.authInterceptor = new MappedInterceptor(Urls.PROTECTED_URLS, null, new AuthInterceptor(this.jwtService));
+        var token = Jwts.builder()
+                .claim("authUser", Map.of("id", 1, "name", "Benchmark User", "email", "benchmark@email.com"))
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                .signWith(Keys.hmacShaKeyFor(API_SECRET.getBytes()))
+                .compact();
+        this.authorization = "Bearer " + token;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+        private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/product/1");
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        @Setup(Level.Trial)
+        public void setUp(AuthInterceptorBenchmark benchmark) {
+            this.request.addHeader("Authorization", benchmark.authorization);
+            this.request.addHeader("transactionid", "benchmark-transaction");
+            ServletRequestPathUtil.parseAndCache(this.request);
+        }
+    }
+
+    @Benchmark
+    public boolean legacyPreHandle(RequestState state) {
+        var request = state.request;
+        var url = request.getRequestURI();
+        if (LEGACY_PROTECTED_URLS.stream().noneMatch(url::contains)) {
+            return true;
+        }
+        var authorization = request.getHeader("Authorization");
+        this.jwtService.validateAuthorization(authorization.split(" ")[1]);
+        request.setAttribute("serviceid", UUID.randomUUID().toString());
+        return true;
+    }
+
+    @Benchmark
+    public boolean preHandle(RequestState state) throws Exception {
+        if (!this.authInterceptor.matches(state.request)) {
+            return true;
+        }
+        return this.authInterceptor.preHandle(state.request, state.response, null);
+    }
+}
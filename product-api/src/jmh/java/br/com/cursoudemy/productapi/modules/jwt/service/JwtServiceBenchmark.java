@@ -0,0 +1,90 @@
+package br.com.cursoudemy.productapi.modules.jwt.service;
+
+import br.com.cursoudemy.productapi.modules.jwt.dto.JwtResponse;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+    private static final String API_SECRET = "YXV0aC1hcGktc2VjcmV0LWRldi0xMjM0NTY=";
+    private static final int FRESH_TOKENS = 100_000;
+    private AnnotationConfigApplicationContext context, coldContext;
+    private JwtService jwtService, coldJwtService;
+    private String authorization;
+    private String[] freshAuthorizations;
+    private int nextFreshAuthorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = this.startContext(10000);
+        this.jwtService = this.context.getBean(JwtService.class);
+        this.coldContext = this.startContext(1);
+        this.coldJwtService = this.coldContext.getBean(JwtService.class);
+        this.authorization = createAuthorization();
+        this.freshAuthorizations = new String[FRESH_TOKENS];
+        for (var index = 0; index < FRESH_TOKENS; index++) {
+            this.freshAuthorizations[index] = createAuthorization();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.coldContext.close();
+        this.context.close();
+    }
+
+    @Benchmark
+    public String coldValidation() {
+        var freshAuthorization = this.freshAuthorizations[this.nextFreshAuthorization];
+        this.nextFreshAuthorization = (this.nextFreshAuthorization + 1) % FRESH_TOKENS;
+        this.coldJwtService.validateAuthorization(freshAuthorization);
+        return freshAuthorization;
+    }
+
+    @Benchmark
+    public JwtResponse legacyColdValidation() {
+        var accessToken = this.authorization.split(" ")[1];
+        var claims = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(API_SECRET.getBytes())).build().parseClaimsJws(accessToken).getBody();
+        return JwtResponse.getUser(claims);
+    }
+
+    @Benchmark
+    public String cachedValidation() {
+        this.jwtService.validateAuthorization(this.authorization);
+        return this.authorization;
+    }
+
+    private AnnotationConfigApplicationContext startContext(int tokenCacheSize) {
+        var context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "app-config.secrets.api-secret", API_SECRET,
+                "app-config.secrets.token-cache.size", String.valueOf(tokenCacheSize),
+                "app-config.secrets.token-cache.max-ttl-seconds", "300")));
+        context.register(SimpleMeterRegistry.class, JwtService.class);
+        context.refresh();
+        return context;
+    }
+
+    private static String createAuthorization() {
+        var token = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .claim("authUser", Map.of("id", 1, "name", "Benchmark User", "email", "benchmark@email.com"))
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                .signWith(Keys.hmacShaKeyFor(API_SECRET.getBytes()))
+                .compact();
+        return "Bearer " + token;
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.cursoudemy.productapi.modules.product.dto;
+
+import br.com.cursoudemy.productapi.modules.category.model.Category;
+import br.com.cursoudemy.productapi.modules.product.model.Product;
+import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
+import br.com.cursoudemy.productapi.modules.sales.enums.SalesStatus;
+import br.com.cursoudemy.productapi.modules.supplier.model.Supplier;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+    private ObjectMapper objectMapper;
+    private Product product;
+    private ProductStockDTO productStockDTO;
+    private SalesConfirmationDTO salesConfirmationDTO;
+    private String productStockJson;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.product = Product.builder()
+                .id(1001)
+                .name("Crise nas Infinitas Terras")
+                .quantityAvailable(10)
+                .supplier(new Supplier(1000, "Panini Comics"))
+                .category(new Category(1000, "Comic Books"))
+                .createdAt(LocalDateTime.now())
+                .version(0L)
+                .build();
+        this.productStockDTO = new ProductStockDTO("64429e987a8b646915b3735f", List.of(new ProductQuantityDTO(1001, 2), new ProductQuantityDTO(1002, 1), new ProductQuantityDTO(1003, 1)), "64429e987a8b646915b3735e");
+        this.salesConfirmationDTO = new SalesConfirmationDTO("64429e987a8b646915b3735f", SalesStatus.APPROVED, "64429e987a8b646915b3735e");
+        this.productStockJson = this.objectMapper.writeValueAsString(this.productStockDTO);
+    }
+
+    @Benchmark
+    public ProductResponse productResponseOf() {
+        return ProductResponse.of(this.product);
+    }
+
+    @Benchmark
+    public byte[] serializeProductStockDTO() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.productStockDTO);
+    }
+
+    @Benchmark
+    public ProductStockDTO deserializeProductStockDTO() throws JsonProcessingException {
+        return this.objectMapper.readValue(this.productStockJson, ProductStockDTO.class);
+    }
+
+    @Benchmark
+    public byte[] serializeSalesConfirmationDTO() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.salesConfirmationDTO);
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.cursoudemy.productapi.modules.product.rabbitmq;
+
+import br.com.cursoudemy.productapi.config.interceptor.ServiceIdGenerator;
+import br.com.cursoudemy.productapi.config.logging.LogContext;
+import br.com.cursoudemy.productapi.config.logging.LogPayloads;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductQuantityDTO;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductStockDTO;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductStockListenerBenchmark {
+    @Param({"INFO", "WARN"})
+    private String level;
+    @Param({"1.0", "0.01"})
+    private Double sampleRate;
+    private Logger logger;
+    private ObjectMapper objectMapper;
+    private LogPayloads logPayloads;
+    private ProductStockDTO productStockDTO;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.logger = (Logger) LoggerFactory.getLogger(ProductStockListener.class);
+        this.logger.setLevel(ch.qos.logback.classic.Level.toLevel(this.level));
+        this.logger.setAdditive(false);
+        var appender = new FormattingAppender();
+        appender.setContext(this.logger.getLoggerContext());
+        appender.start();
+        this.logger.addAppender(appender);
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.logPayloads = new LogPayloads(this.objectMapper, this.sampleRate);
+        this.productStockDTO = new ProductStockDTO("64429e987a8b646915b3735f", List.of(new ProductQuantityDTO(1001, 2), new ProductQuantityDTO(1002, 1), new ProductQuantityDTO(1003, 1)), "64429e987a8b646915b3735e");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.logger.detachAndStopAllAppenders();
+        this.logger.setAdditive(true);
+        this.logger.setLevel(null);
+    }
+
+    @Benchmark
+    public void eagerJsonLogging() throws JsonProcessingException {
+        this.logger.info("Receiving message with data: {} and transactionId: {}", this.objectMapper.writeValueAsString(this.productStockDTO), this.productStockDTO.getTransactionid());
+    }
+
+    @Benchmark
+    public void lazySampledLogging() {
+        LogContext.put(this.productStockDTO.getTransactionid(), ServiceIdGenerator.next());
+        try {
+            this.logger.info("Receiving message with data: {}", this.logPayloads.of(this.productStockDTO));
+        } finally {
+            LogContext.clear();
+        }
+    }
+
+    static class FormattingAppender extends AppenderBase<ILoggingEvent> {
+        private volatile int formattedLength;
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            this.formattedLength = event.getFormattedMessage().length() + event.getMDCPropertyMap().size();
+        }
+    }
+}
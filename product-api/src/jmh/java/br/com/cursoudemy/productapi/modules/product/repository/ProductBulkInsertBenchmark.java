@@ -0,0 +1,98 @@
+package br.com.cursoudemy.productapi.modules.product.repository;
+
+import br.com.cursoudemy.productapi.ProductApiApplication;
+import br.com.cursoudemy.productapi.modules.category.model.Category;
+import br.com.cursoudemy.productapi.modules.category.repository.CategoryRepository;
+import br.com.cursoudemy.productapi.modules.product.model.Product;
+import br.com.cursoudemy.productapi.modules.supplier.model.Supplier;
+import br.com.cursoudemy.productapi.modules.supplier.repository.SupplierRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductBulkInsertBenchmark {
+    private static final String SCHEMA = "product_bulk_insert_benchmark", IDENTITY = "IDENTITY", IDENTITY_MAPPING = "META-INF/identity-product-orm.xml";
+    @Param({"1000"})
+    public int products;
+    @Param({"SEQUENCE", IDENTITY})
+    public String idStrategy;
+    @Param({"1", "50"})
+    public int batchSize;
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private JdbcTemplate jdbcTemplate;
+    private Statistics statistics;
+    private Supplier supplier;
+    private Category category;
+    private long saves;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5433/product-db"),
+                "--spring.datasource.username=" + System.getProperty("benchmark.db.user", "postgres"),
+                "--spring.datasource.password=" + System.getProperty("benchmark.db.password", "postgres"),
+                "--spring.datasource.hikari.connection-init-sql=SET search_path TO " + SCHEMA,
+                "--spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true",
+                "--spring.jpa.properties.hibernate.default_schema=" + SCHEMA,
+                "--spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + this.batchSize,
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--spring.jpa.show_sql=false",
+                "--spring.sql.init.mode=never",
+                "--spring.rabbitmq.listener.simple.auto-startup=false",
+                "--app-config.outbox.enabled=false",
+                "--app-config.reactive.enabled=false"));
+        if (IDENTITY.equals(this.idStrategy)) {
+            args.add("--spring.jpa.mapping-resources=" + IDENTITY_MAPPING);
+        }
+        this.context = new SpringApplicationBuilder(ProductApiApplication.class).web(WebApplicationType.NONE).run(args.toArray(String[]::new));
+        this.productRepository = this.context.getBean(ProductRepository.class);
+        this.jdbcTemplate = this.context.getBean(JdbcTemplate.class);
+        this.statistics = this.context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        this.supplier = this.context.getBean(SupplierRepository.class).findById(1000).orElseThrow();
+        this.category = this.context.getBean(CategoryRepository.class).findById(1000).orElseThrow();
+        this.jdbcTemplate.update("DELETE FROM PRODUCT");
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        this.statistics.clear();
+        this.saves = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportRoundTrips() {
+        if (this.saves > 0) {
+            System.out.printf("%n%s ids, batch size %s: %.1f statements per saveAll of %s products%n", this.idStrategy, this.batchSize, (double) this.statistics.getPrepareStatementCount() / this.saves, this.products);
+        }
+        this.jdbcTemplate.update("DELETE FROM PRODUCT");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public List<Product> saveAll() {
+        var newProducts = new ArrayList<Product>(this.products);
+        for (var index = 0; index < this.products; index++) {
+            newProducts.add(Product.builder().name("Product " + index).quantityAvailable(10).supplier(this.supplier).category(this.category).build());
+        }
+        this.saves++;
+        return this.productRepository.saveAll(newProducts);
+    }
+}
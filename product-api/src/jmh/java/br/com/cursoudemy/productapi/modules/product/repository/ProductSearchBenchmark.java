@@ -0,0 +1,70 @@
+package br.com.cursoudemy.productapi.modules.product.repository;
+
+import br.com.cursoudemy.productapi.modules.product.dto.ProductView;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+    private static final String SCHEMA = "product_search_benchmark";
+    private static final String[] TERMS = {"CRISE", "INTERESTELAR", "POTTER", "PEDRA FILO", "TERRAS 4", "PRODUCT 12345"};
+    @Param({"2000000"})
+    public int products;
+    @Param({"true", "false"})
+    public boolean indexed;
+    private HikariDataSource dataSource;
+    private ProductSearchRepository productSearchRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.dataSource = new HikariDataSource();
+        this.dataSource.setJdbcUrl(System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5433/product-db"));
+        this.dataSource.setUsername(System.getProperty("benchmark.db.user", "postgres"));
+        this.dataSource.setPassword(System.getProperty("benchmark.db.password", "postgres"));
+        this.dataSource.setConnectionInitSql("SET search_path TO " + SCHEMA + ", public");
+        var jdbcTemplate = new NamedParameterJdbcTemplate(this.dataSource);
+        var jdbc = jdbcTemplate.getJdbcTemplate();
+        jdbc.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbc.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbc.execute("CREATE SCHEMA " + SCHEMA);
+        jdbc.execute("CREATE TABLE " + SCHEMA + ".SUPPLIER (ID INT PRIMARY KEY, NAME VARCHAR(255) NOT NULL)");
+        jdbc.execute("CREATE TABLE " + SCHEMA + ".CATEGORY (ID INT PRIMARY KEY, DESCRIPTION VARCHAR(255) NOT NULL)");
+        jdbc.execute("CREATE TABLE " + SCHEMA + ".PRODUCT (ID INT PRIMARY KEY, NAME VARCHAR(255) NOT NULL, FK_SUPPLIER INT NOT NULL REFERENCES " + SCHEMA + ".SUPPLIER, FK_CATEGORY INT NOT NULL REFERENCES " + SCHEMA + ".CATEGORY, QUANTITY_AVAILABLE INT NOT NULL, CREATED_AT TIMESTAMP NOT NULL, VERSION BIGINT NOT NULL)");
+        jdbc.execute("INSERT INTO " + SCHEMA + ".SUPPLIER VALUES (1000, 'Panini Comics'), (1001, 'Amazon')");
+        jdbc.execute("INSERT INTO " + SCHEMA + ".CATEGORY VALUES (1000, 'Comic Books'), (1001, 'Movies'), (1002, 'Books')");
+        jdbc.update("INSERT INTO " + SCHEMA + ".PRODUCT SELECT ID, "
+                + "(ARRAY['Crise nas Infinitas Terras', 'Interestelar', 'Harry Potter e a Pedra Filosofal', 'Product'])[1 + ID % 4] || ' ' || ID, "
+                + "1000 + ID % 2, 1000 + ID % 3, ID % 100, CURRENT_TIMESTAMP, 0 FROM GENERATE_SERIES(1, ?) AS ID", this.products);
+        if (this.indexed) {
+            jdbc.execute("CREATE INDEX IDX_PRODUCT_NAME_TRGM ON " + SCHEMA + ".PRODUCT USING GIN (UPPER(NAME) gin_trgm_ops)");
+        }
+        jdbc.execute("ANALYZE " + SCHEMA + ".PRODUCT");
+        this.productSearchRepository = new ProductSearchRepository(jdbcTemplate);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.dataSource.close();
+    }
+
+    @Benchmark
+    public List<ProductView> containing() {
+        return this.productSearchRepository.searchByName(this.nextTerm(), false, 20);
+    }
+
+    @Benchmark
+    public List<ProductView> prefix() {
+        return this.productSearchRepository.searchByName(this.nextTerm(), true, 20);
+    }
+
+    private String nextTerm() {
+        return TERMS[ThreadLocalRandom.current().nextInt(TERMS.length)];
+    }
+}
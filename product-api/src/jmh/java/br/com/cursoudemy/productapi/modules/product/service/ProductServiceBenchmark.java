@@ -0,0 +1,117 @@
+package br.com.cursoudemy.productapi.modules.product.service;
+
+import br.com.cursoudemy.productapi.ProductApiApplication;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductCheckStockRequest;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductQuantityDTO;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductStockCheckResponse;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductStockDTO;
+import br.com.cursoudemy.productapi.modules.sales.enums.SalesStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductServiceBenchmark {
+    private static final int BENCHMARK_STOCK = 1_000_000_000;
+    private final AtomicLong salesSequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductCheckStockRequest productCheckStockRequest;
+    private List<ProductQuantityDTO> salesProducts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(ProductApiApplication.class, BenchmarkConfig.class).web(WebApplicationType.NONE).run(
+                "--spring.datasource.url=jdbc:h2:mem:product-service;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show_sql=false",
+                "--spring.rabbitmq.listener.simple.auto-startup=false",
+                "--app-config.outbox.enabled=false",
+                "--app-config.reactive.enabled=false");
+        this.productService = this.context.getBean(ProductService.class);
+        this.context.getBean(JdbcTemplate.class).update("UPDATE PRODUCT SET QUANTITY_AVAILABLE = ?", BENCHMARK_STOCK);
+        this.salesProducts = List.of(new ProductQuantityDTO(1001, 1), new ProductQuantityDTO(1002, 1), new ProductQuantityDTO(1003, 1));
+        this.productCheckStockRequest = new ProductCheckStockRequest(this.salesProducts);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+        @Setup(Level.Trial)
+        public void setUp() {
+            var request = new MockHttpServletRequest("POST", "/api/product/check-stock");
+            request.addHeader("transactionid", "benchmark-transaction");
+            request.setAttribute("serviceid", "benchmark-service");
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Benchmark
+    public ProductStockCheckResponse checkProductsStock(RequestState requestState) {
+        return this.productService.checkProductsStock(this.productCheckStockRequest);
+    }
+
+    @Benchmark
+    public Optional<SalesStatus> updateProductStock() {
+        var sequence = this.salesSequence.incrementAndGet();
+        return this.productService.updateProductStock(new ProductStockDTO("sales-" + sequence, this.salesProducts, "transaction-" + sequence));
+    }
+
+    @Configuration
+    static class BenchmarkConfig {
+        @Bean
+        public RabbitTemplate rabbitTemplate(MessageConverter messageConverter) {
+            var rabbitTemplate = new ConfirmingRabbitTemplate();
+            rabbitTemplate.setMessageConverter(messageConverter);
+            return rabbitTemplate;
+        }
+    }
+
+    static class ConfirmingRabbitTemplate extends RabbitTemplate {
+        ConfirmingRabbitTemplate() {
+            super(new CachingConnectionFactory());
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object object) {
+            this.getMessageConverter().toMessage(object, new MessageProperties());
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object object, CorrelationData correlationData) {
+            this.getMessageConverter().toMessage(object, new MessageProperties());
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.cursoudemy.productapi.modules.product.service;
+
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductQuantityDTO;
+import br.com.cursoudemy.productapi.modules.product.repository.ProductStockRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class StockReservationContentionBenchmark {
+    private static final int FIRST_PRODUCT_ID = 1001;
+    @Param({"4"})
+    public int hotProducts;
+    @Param({"20000"})
+    public int initialStock;
+    private AnnotationConfigApplicationContext context;
+    private StockReservationService stockReservationService;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private LongAdder[] approved;
+    private LongAdder rejected;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+        this.stockReservationService = this.context.getBean(StockReservationService.class);
+        this.jdbcTemplate = this.context.getBean(NamedParameterJdbcTemplate.class);
+        var jdbc = this.jdbcTemplate.getJdbcTemplate();
+        jdbc.execute("CREATE TABLE PRODUCT (ID INT PRIMARY KEY, QUANTITY_AVAILABLE INT NOT NULL, VERSION BIGINT NOT NULL)");
+        IntStream.range(0, this.hotProducts).forEach(index -> jdbc.update("INSERT INTO PRODUCT (ID, QUANTITY_AVAILABLE, VERSION) VALUES (?, ?, 0)", FIRST_PRODUCT_ID + index, this.initialStock));
+        this.approved = IntStream.range(0, this.hotProducts).mapToObj(index -> new LongAdder()).toArray(LongAdder[]::new);
+        this.rejected = new LongAdder();
+    }
+
+    @Benchmark
+    public boolean reserveHotProduct() {
+        var index = ThreadLocalRandom.current().nextInt(this.hotProducts);
+        try {
+            this.stockReservationService.reserve(List.of(new ProductQuantityDTO(FIRST_PRODUCT_ID + index, 1)));
+            this.approved[index].increment();
+            return true;
+        } catch (ValidationException | ConcurrencyFailureException e) {
+            this.rejected.increment();
+            return false;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        var oversell = 0L;
+        for (var index = 0; index < this.hotProducts; index++) {
+            var remaining = this.jdbcTemplate.getJdbcTemplate().queryForObject("SELECT QUANTITY_AVAILABLE FROM PRODUCT WHERE ID = ?", Integer.class, FIRST_PRODUCT_ID + index);
+            var sold = this.approved[index].sum();
+            oversell += Math.max(0, sold - this.initialStock) + Math.max(0, -remaining) + Math.abs(this.initialStock - remaining - sold);
+        }
+        System.out.printf("%nApproved: %d | Rejected: %d | Oversell: %d%n", IntStream.range(0, this.hotProducts).mapToLong(index -> this.approved[index].sum()).sum(), this.rejected.sum(), oversell);
+        this.context.close();
+        if (oversell != 0) {
+            throw new IllegalStateException("The stock was oversold by " + oversell + " units.");
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({ProductStockRepository.class, StockReservationService.class})
+    static class BenchmarkConfig {
+        @Bean(destroyMethod = "close")
+        public HikariDataSource dataSource() {
+            var dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:stock-contention;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+            dataSource.setMaximumPoolSize(32);
+            return dataSource;
+        }
+
+        @Bean
+        public NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
+            return new NamedParameterJdbcTemplate(dataSource);
+        }
+
+        @Bean
+        public DataSourceTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+}
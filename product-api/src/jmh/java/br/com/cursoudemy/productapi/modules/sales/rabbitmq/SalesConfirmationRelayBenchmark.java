@@ -0,0 +1,133 @@
+package br.com.cursoudemy.productapi.modules.sales.rabbitmq;
+
+import br.com.cursoudemy.productapi.ProductApiApplication;
+import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
+import br.com.cursoudemy.productapi.modules.sales.enums.SalesStatus;
+import br.com.cursoudemy.productapi.modules.sales.repository.SalesConfirmationOutboxRepository;
+import br.com.cursoudemy.productapi.modules.sales.service.SalesConfirmationService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SalesConfirmationRelayBenchmark {
+    private static final String STUB_BROKER = "stub", RABBITMQ_BROKER = "rabbitmq", BENCHMARK_QUEUE = "sales-confirmation-benchmark.queue";
+    @Param({"100"})
+    public int confirmations;
+    @Param({STUB_BROKER, RABBITMQ_BROKER})
+    public String broker;
+    private ConfigurableApplicationContext context;
+    private SalesConfirmationSender salesConfirmationSender;
+    private SalesConfirmationService salesConfirmationService;
+    private SalesConfirmationOutboxRelay salesConfirmationOutboxRelay;
+    private TransactionTemplate transactionTemplate;
+    private List<SalesConfirmationDTO> salesConfirmationDTOs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.context = new SpringApplicationBuilder(BenchmarkConfig.class).web(WebApplicationType.NONE).run(
+                "--spring.datasource.url=jdbc:h2:mem:outbox;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show_sql=false",
+                "--app-config.outbox.enabled=true",
+                "--app-config.outbox.batch-size=" + this.confirmations,
+                "--benchmark.broker=" + this.broker);
+        this.salesConfirmationSender = this.context.getBean(SalesConfirmationSender.class);
+        this.salesConfirmationService = this.context.getBean(SalesConfirmationService.class);
+        this.salesConfirmationOutboxRelay = this.context.getBean(SalesConfirmationOutboxRelay.class);
+        this.transactionTemplate = this.context.getBean(TransactionTemplate.class);
+        this.salesConfirmationDTOs = IntStream.range(0, this.confirmations).mapToObj(index -> new SalesConfirmationDTO("sales-" + index, SalesStatus.APPROVED, "transaction-" + index)).toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.context.close();
+    }
+
+    @Benchmark
+    public int directSend() {
+        var confirmed = this.salesConfirmationDTOs.stream().map(this.salesConfirmationSender::publish).toList();
+        confirmed.forEach(CompletableFuture::join);
+        return confirmed.size();
+    }
+
+    @Benchmark
+    public int outboxRelay() {
+        this.transactionTemplate.executeWithoutResult(status -> this.salesConfirmationService.confirm(this.salesConfirmationDTOs));
+        this.salesConfirmationOutboxRelay.relay();
+        return this.salesConfirmationDTOs.size();
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = ProductApiApplication.class)
+    @EnableJpaRepositories(basePackageClasses = SalesConfirmationOutboxRepository.class)
+    @Import({SalesConfirmationSender.class, SalesConfirmationService.class, SalesConfirmationOutboxRelay.class})
+    static class BenchmarkConfig {
+        @Bean
+        public RabbitTemplate rabbitTemplate(@Value("${benchmark.broker}") String broker,
+                                             @Value("${app-config.rabbit.exchange.product}") String productTopicExchange,
+                                             @Value("${app-config.rabbit.routingKey.sales-confirmation}") String salesConfirmationKey) {
+            var rabbitTemplate = RABBITMQ_BROKER.equals(broker) ? this.brokerRabbitTemplate(productTopicExchange, salesConfirmationKey) : new ConfirmingRabbitTemplate();
+            rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+            return rabbitTemplate;
+        }
+
+        private RabbitTemplate brokerRabbitTemplate(String productTopicExchange, String salesConfirmationKey) {
+            var connectionFactory = new CachingConnectionFactory(System.getProperty("benchmark.rabbit.host", "localhost"), Integer.getInteger("benchmark.rabbit.port", 5672));
+            connectionFactory.setUsername(System.getProperty("benchmark.rabbit.user", "guest"));
+            connectionFactory.setPassword(System.getProperty("benchmark.rabbit.password", "guest"));
+            connectionFactory.setPublisherConfirmType(CachingConnectionFactory.ConfirmType.CORRELATED);
+            connectionFactory.setPublisherReturns(true);
+            var rabbitAdmin = new RabbitAdmin(connectionFactory);
+            var exchange = new TopicExchange(productTopicExchange);
+            var queue = QueueBuilder.nonDurable(BENCHMARK_QUEUE).exclusive().maxLength(10000L).build();
+            rabbitAdmin.declareExchange(exchange);
+            rabbitAdmin.declareQueue(queue);
+            rabbitAdmin.declareBinding(BindingBuilder.bind(queue).to(exchange).with(salesConfirmationKey));
+            var rabbitTemplate = new RabbitTemplate(connectionFactory);
+            rabbitTemplate.setMandatory(true);
+            return rabbitTemplate;
+        }
+    }
+
+    static class ConfirmingRabbitTemplate extends RabbitTemplate {
+        ConfirmingRabbitTemplate() {
+            super(new CachingConnectionFactory());
+        }
+
+        @Override
+        public void convertAndSend(String exchange, String routingKey, Object object, CorrelationData correlationData) {
+            this.getMessageConverter().toMessage(object, new MessageProperties());
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+    }
+}
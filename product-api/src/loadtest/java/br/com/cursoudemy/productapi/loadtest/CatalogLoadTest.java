@@ -0,0 +1,14 @@
+package br.com.cursoudemy.productapi.loadtest;
+
+import java.net.URI;
+
+public class CatalogLoadTest {
+    public static void main(String[] args) throws Exception {
+        var path = System.getProperty("loadtest.path", "/api/product?limit=100");
+        var mvcUrl = URI.create(System.getProperty("loadtest.mvc-url", "http://localhost:8081") + path);
+        var reactiveUrl = URI.create(System.getProperty("loadtest.reactive-url", "http://localhost:8091") + path);
+        new HttpLoadTest("Spring MVC", mvcUrl).run();
+        new HttpLoadTest("Reactive", reactiveUrl).run();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.cursoudemy.productapi.loadtest;
+
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class HttpLoadTest {
+    private static final String OPEN_LOOP = "open";
+    private final String name;
+    private final URI url;
+    private final String mode = System.getProperty("loadtest.mode", OPEN_LOOP);
+    private final int rate = Integer.getInteger("loadtest.rate", 1000);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+    private final Duration warmup = LoadTestSupport.getDuration("loadtest.warmup-seconds", 10);
+    private final Duration duration = LoadTestSupport.getDuration("loadtest.duration-seconds", 30);
+    private final Duration drain = LoadTestSupport.getDuration("loadtest.drain-seconds", 30);
+    private final String authorization = LoadTestSupport.createAuthorization();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Recorder recorder = LoadTestSupport.newRecorder();
+    private final LongAdder failed = new LongAdder(), inFlight = new LongAdder();
+    private long measureFrom, stopAt;
+
+    public HttpLoadTest(String name, URI url) {
+        this.name = name;
+        this.url = url;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new HttpLoadTest("HTTP", URI.create(System.getProperty("loadtest.url", "http://localhost:8081/api/product/search?name=CRISE"))).run();
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        this.measureFrom = System.nanoTime() + this.warmup.toNanos();
+        this.stopAt = this.measureFrom + this.duration.toNanos();
+        if (OPEN_LOOP.equals(this.mode)) {
+            System.out.printf("%s open loop: %s requests/s against %s for %ss after a %ss warm-up%n", this.name, this.rate, this.url, this.duration.toSeconds(), this.warmup.toSeconds());
+            LoadTestSupport.startOpenLoop(this.name + "-client", this.rate, this.stopAt, this::send).join();
+        } else {
+            System.out.printf("%s closed loop: %s concurrent clients against %s for %ss after a %ss warm-up%n", this.name, this.concurrency, this.url, this.duration.toSeconds(), this.warmup.toSeconds());
+            this.runClosedLoop();
+        }
+        var drainUntil = System.nanoTime() + this.drain.toNanos();
+        while (this.inFlight.sum() > 0 && System.nanoTime() < drainUntil) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        LoadTestSupport.printLatency(this.name, this.recorder.getIntervalHistogram(), this.duration);
+        System.out.printf("%s: %d failed requests, %d still in flight%n", this.name, this.failed.sum(), this.inFlight.sum());
+    }
+
+    private void runClosedLoop() throws InterruptedException {
+        var workers = Executors.newFixedThreadPool(this.concurrency);
+        for (var worker = 0; worker < this.concurrency; worker++) {
+            workers.execute(() -> {
+                while (System.nanoTime() < this.stopAt) {
+                    this.send(System.nanoTime()).handle((response, error) -> null).join();
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(this.warmup.plus(this.duration).plusMinutes(1).toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private CompletableFuture<?> send(long intendedStart) {
+        var request = HttpRequest.newBuilder(this.url)
+                .header("Authorization", this.authorization)
+                .header("transactionid", UUID.randomUUID().toString())
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        this.inFlight.increment();
+        return this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            this.inFlight.decrement();
+            if (intendedStart < this.measureFrom) {
+                return;
+            }
+            LoadTestSupport.record(this.recorder, System.nanoTime() - intendedStart);
+            if (error != null || response.statusCode() >= 400) {
+                this.failed.increment();
+            }
+        });
+    }
+}
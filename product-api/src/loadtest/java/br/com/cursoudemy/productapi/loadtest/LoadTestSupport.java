@@ -0,0 +1,71 @@
+package br.com.cursoudemy.productapi.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongConsumer;
+
+public class LoadTestSupport {
+    private static final String DEFAULT_API_SECRET = "YXV0aC1hcGktc2VjcmV0LWRldi0xMjM0NTY=";
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    public static Recorder newRecorder() {
+        return new Recorder(HIGHEST_TRACKABLE_LATENCY, SIGNIFICANT_DIGITS);
+    }
+
+    public static void record(Recorder recorder, long latencyNanos) {
+        recorder.recordValue(Math.min(Math.max(latencyNanos, 0), HIGHEST_TRACKABLE_LATENCY));
+    }
+
+    public static Thread startOpenLoop(String name, int ratePerSecond, long stopAt, LongConsumer action) {
+        var interval = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        var thread = new Thread(() -> {
+            var startedAt = System.nanoTime();
+            for (var index = 0L; ; index++) {
+                var intendedStart = startedAt + index * interval;
+                if (intendedStart >= stopAt) {
+                    return;
+                }
+                LockSupport.parkNanos(intendedStart - System.nanoTime());
+                action.accept(intendedStart);
+            }
+        }, name);
+        thread.start();
+        return thread;
+    }
+
+    public static Duration getDuration(String property, long defaultSeconds) {
+        return Duration.ofSeconds(Long.getLong(property, defaultSeconds));
+    }
+
+    public static String createAuthorization() {
+        var apiSecret = System.getProperty("loadtest.api-secret", DEFAULT_API_SECRET);
+        var token = Jwts.builder()
+                .claim("authUser", Map.of("id", 1, "name", "Load Test User", "email", "loadtest@email.com"))
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                .signWith(Keys.hmacShaKeyFor(apiSecret.getBytes()))
+                .compact();
+        return "Bearer " + token;
+    }
+
+    public static void printLatency(String name, Histogram histogram, Duration duration) {
+        System.out.printf("%s: %d samples, %.1f/s%n", name, histogram.getTotalCount(), histogram.getTotalCount() / (double) duration.toSeconds());
+        System.out.printf("%s latency (ms): p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n", name,
+                histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI,
+                histogram.getMaxValue() / NANOS_PER_MILLI);
+    }
+}
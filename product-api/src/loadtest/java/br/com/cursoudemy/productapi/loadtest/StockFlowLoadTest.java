@@ -0,0 +1,204 @@
+package br.com.cursoudemy.productapi.loadtest;
+
+import br.com.cursoudemy.productapi.modules.product.dto.ProductCheckStockRequest;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductQuantityDTO;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductStockDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Recorder;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class StockFlowLoadTest {
+    private static final String PRODUCT_TOPIC = "product.topic", PRODUCT_STOCK_KEY = "product-stock-update.routingKey", SALES_CONFIRMATION_KEY = "sales-confirmation.routingKey";
+    private static final String OPEN_LOOP = "open", APPROVED = "APPROVED";
+    private static final int BENCHMARK_STOCK = 1_000_000_000, HTTP_OK = 200, HTTP_BAD_REQUEST = 400;
+    private static final Duration CONFIRMATION_TIMEOUT = Duration.ofSeconds(30);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private final String runId = UUID.randomUUID().toString();
+    private final String mode = System.getProperty("loadtest.mode", OPEN_LOOP);
+    private final int rate = Integer.getInteger("loadtest.rate", 200);
+    private final int checkRate = Integer.getInteger("loadtest.check-rate", 200);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 50);
+    private final Duration warmup = LoadTestSupport.getDuration("loadtest.warmup-seconds", 10);
+    private final Duration duration = LoadTestSupport.getDuration("loadtest.duration-seconds", 60);
+    private final Duration drain = LoadTestSupport.getDuration("loadtest.drain-seconds", 10);
+    private final URI checkStockUri = URI.create(System.getProperty("loadtest.api-url", "http://localhost:8081") + "/api/product/check-stock");
+    private final List<ProductQuantityDTO> salesProducts = Arrays.stream(System.getProperty("loadtest.product-ids", "1001,1002,1003").split(","))
+            .map(productId -> new ProductQuantityDTO(Integer.valueOf(productId.trim()), 1))
+            .toList();
+    private final Map<String, PendingSale> pendingSales = new ConcurrentHashMap<>();
+    private final AtomicLong salesSequence = new AtomicLong();
+    private final Recorder confirmationRecorder = LoadTestSupport.newRecorder();
+    private final Recorder checkStockRecorder = LoadTestSupport.newRecorder();
+    private final LongAdder approved = new LongAdder(), rejected = new LongAdder(), publishFailures = new LongAdder(), checkStockFailures = new LongAdder();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String authorization = LoadTestSupport.createAuthorization();
+    private final String checkStockBody;
+    private RabbitTemplate rabbitTemplate;
+    private long measureFrom, stopAt;
+
+    public StockFlowLoadTest() throws JsonProcessingException {
+        this.checkStockBody = OBJECT_MAPPER.writeValueAsString(new ProductCheckStockRequest(this.salesProducts));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StockFlowLoadTest().run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        this.topUpStock();
+        var connectionFactory = new CachingConnectionFactory(System.getProperty("loadtest.rabbit.host", "localhost"), Integer.getInteger("loadtest.rabbit.port", 5672));
+        connectionFactory.setUsername(System.getProperty("loadtest.rabbit.username", "guest"));
+        connectionFactory.setPassword(System.getProperty("loadtest.rabbit.password", "guest"));
+        this.rabbitTemplate = new RabbitTemplate(connectionFactory);
+        this.rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+        var salesConfirmationQueue = new AnonymousQueue();
+        var rabbitAdmin = new RabbitAdmin(connectionFactory);
+        rabbitAdmin.declareQueue(salesConfirmationQueue);
+        rabbitAdmin.declareBinding(BindingBuilder.bind(salesConfirmationQueue).to(new TopicExchange(PRODUCT_TOPIC)).with(SALES_CONFIRMATION_KEY));
+        var container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueues(salesConfirmationQueue);
+        container.setConcurrentConsumers(4);
+        container.setMessageListener(this::onSalesConfirmation);
+        container.start();
+        this.measureFrom = System.nanoTime() + this.warmup.toNanos();
+        this.stopAt = this.measureFrom + this.duration.toNanos();
+        var loadThreads = new ArrayList<Thread>();
+        if (OPEN_LOOP.equals(this.mode)) {
+            System.out.printf("Open loop: %s sales/s and %s check-stock/s for %ss after a %ss warm-up%n", this.rate, this.checkRate, this.duration.toSeconds(), this.warmup.toSeconds());
+            loadThreads.add(LoadTestSupport.startOpenLoop("sales-publisher", this.rate, this.stopAt, this::publishSale));
+            loadThreads.add(LoadTestSupport.startOpenLoop("check-stock-client", this.checkRate, this.stopAt, this::checkStock));
+        } else {
+            System.out.printf("Closed loop: %s clients for %ss after a %ss warm-up%n", this.concurrency, this.duration.toSeconds(), this.warmup.toSeconds());
+            for (var client = 0; client < this.concurrency; client++) {
+                loadThreads.add(this.startClosedLoop("stock-flow-client-" + client));
+            }
+        }
+        for (var loadThread : loadThreads) {
+            loadThread.join();
+        }
+        var drainUntil = System.nanoTime() + this.drain.toNanos();
+        while (!this.pendingSales.isEmpty() && System.nanoTime() < drainUntil) {
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+        container.stop();
+        connectionFactory.destroy();
+        this.report();
+    }
+
+    private Thread startClosedLoop(String name) {
+        var thread = new Thread(() -> {
+            while (System.nanoTime() < this.stopAt) {
+                this.checkStock(System.nanoTime()).handle((response, error) -> null).join();
+                this.publishSale(System.nanoTime()).completeOnTimeout(null, CONFIRMATION_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).join();
+            }
+        }, name);
+        thread.start();
+        return thread;
+    }
+
+    private CompletableFuture<String> publishSale(long intendedStart) {
+        var salesId = this.runId + "-" + this.salesSequence.incrementAndGet();
+        var pendingSale = new PendingSale(intendedStart, new CompletableFuture<>());
+        this.pendingSales.put(salesId, pendingSale);
+        try {
+            this.rabbitTemplate.convertAndSend(PRODUCT_TOPIC, PRODUCT_STOCK_KEY, new ProductStockDTO(salesId, this.salesProducts, salesId));
+        } catch (Exception e) {
+            this.pendingSales.remove(salesId);
+            this.publishFailures.increment();
+            pendingSale.confirmation().complete(null);
+        }
+        return pendingSale.confirmation();
+    }
+
+    private void onSalesConfirmation(Message message) {
+        try {
+            var salesConfirmation = OBJECT_MAPPER.readTree(message.getBody());
+            var pendingSale = this.pendingSales.remove(salesConfirmation.path("salesId").asText());
+            if (pendingSale == null) {
+                return;
+            }
+            var status = salesConfirmation.path("status").asText();
+            if (pendingSale.intendedStart() >= this.measureFrom) {
+                LoadTestSupport.record(this.confirmationRecorder, System.nanoTime() - pendingSale.intendedStart());
+                (APPROVED.equals(status) ? this.approved : this.rejected).increment();
+            }
+            pendingSale.confirmation().complete(status);
+        } catch (IOException e) {
+            System.err.printf("Unreadable sales confirmation: %s%n", e.getMessage());
+        }
+    }
+
+    private CompletableFuture<?> checkStock(long intendedStart) {
+        var request = HttpRequest.newBuilder(this.checkStockUri)
+                .header("Authorization", this.authorization)
+                .header("transactionid", UUID.randomUUID().toString())
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(this.checkStockBody))
+                .build();
+        return this.httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            if (intendedStart < this.measureFrom) {
+                return;
+            }
+            LoadTestSupport.record(this.checkStockRecorder, System.nanoTime() - intendedStart);
+            if (error != null || response.statusCode() != HTTP_OK && response.statusCode() != HTTP_BAD_REQUEST) {
+                this.checkStockFailures.increment();
+            }
+        });
+    }
+
+    private void topUpStock() throws SQLException {
+        var url = System.getProperty("loadtest.db.url");
+        if (url == null) {
+            return;
+        }
+        try (var connection = DriverManager.getConnection(url, System.getProperty("loadtest.db.user", "postgres"), System.getProperty("loadtest.db.password", "postgres"));
+             var statement = connection.prepareStatement("UPDATE PRODUCT SET QUANTITY_AVAILABLE = ? WHERE ID = ?")) {
+            for (var product : this.salesProducts) {
+                statement.setInt(1, BENCHMARK_STOCK);
+                statement.setInt(2, product.getProductId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private void report() {
+        LoadTestSupport.printLatency("Sales confirmation", this.confirmationRecorder.getIntervalHistogram(), this.duration);
+        System.out.printf("Sales confirmation: %d approved, %d rejected, %d lost, %d publish failures%n", this.approved.sum(), this.rejected.sum(), this.pendingSales.size(), this.publishFailures.sum());
+        LoadTestSupport.printLatency("Check stock", this.checkStockRecorder.getIntervalHistogram(), this.duration);
+        System.out.printf("Check stock: %d failed requests%n", this.checkStockFailures.sum());
+    }
+
+    private record PendingSale(long intendedStart, CompletableFuture<String> confirmation) {
+    }
+}
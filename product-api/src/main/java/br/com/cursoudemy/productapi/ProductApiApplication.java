@@ -3,9 +3,13 @@ package br.com.cursoudemy.productapi;
 import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableRabbit
+@EnableCaching
+@EnableScheduling
 public class ProductApiApplication {
 
 	public static void main(String[] args) {
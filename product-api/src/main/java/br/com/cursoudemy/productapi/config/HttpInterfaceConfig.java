@@ -1,20 +1,132 @@
 package br.com.cursoudemy.productapi.config;
 
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
 import br.com.cursoudemy.productapi.modules.sales.client.SalesClient;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.reactive.function.client.support.WebClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
+@Slf4j
 public class HttpInterfaceConfig {
-    @Value("${app-config.services.sales}")
+    private static final String SALES_API = "sales-api";
+    @Value("${app-config.services.sales.url}")
     private String baseUrl;
+    @Value("${app-config.services.sales.connect-timeout}")
+    private Integer connectTimeout;
+    @Value("${app-config.services.sales.response-timeout}")
+    private Long responseTimeout;
+    @Value("${app-config.services.sales.pool.max-connections}")
+    private Integer maxConnections;
+    @Value("${app-config.services.sales.pool.pending-acquire-timeout}")
+    private Long pendingAcquireTimeout;
+    @Value("${app-config.services.sales.pool.max-idle-time}")
+    private Long maxIdleTime;
+    @Value("${app-config.services.sales.pool.max-life-time}")
+    private Long maxLifeTime;
+    @Value("${app-config.services.sales.pool.eviction-interval}")
+    private Long evictionInterval;
+    @Value("${app-config.services.sales.retry.max-retries}")
+    private Long maxRetries;
+    @Value("${app-config.services.sales.retry.backoff}")
+    private Long retryBackoff;
+    @Value("${app-config.services.sales.retry.max-backoff}")
+    private Long retryMaxBackoff;
+    @Value("${app-config.services.sales.retry.jitter}")
+    private Double retryJitter;
+    @Value("${app-config.services.sales.circuit-breaker.failure-rate-threshold}")
+    private Float failureRateThreshold;
+    @Value("${app-config.services.sales.circuit-breaker.sliding-window-size}")
+    private Integer slidingWindowSize;
+    @Value("${app-config.services.sales.circuit-breaker.minimum-number-of-calls}")
+    private Integer minimumNumberOfCalls;
+    @Value("${app-config.services.sales.circuit-breaker.wait-duration-in-open-state}")
+    private Long waitDurationInOpenState;
+    @Value("${app-config.services.sales.circuit-breaker.permitted-calls-in-half-open-state}")
+    private Integer permittedCallsInHalfOpenState;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider salesConnectionProvider() {
+        return ConnectionProvider.builder(SALES_API)
+                .maxConnections(this.maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(this.pendingAcquireTimeout))
+                .maxIdleTime(Duration.ofMillis(this.maxIdleTime))
+                .maxLifeTime(Duration.ofMillis(this.maxLifeTime))
+                .evictInBackground(Duration.ofMillis(this.evictionInterval))
+                .build();
+    }
+
+    @Bean
+    public CircuitBreaker salesCircuitBreaker(MeterRegistry meterRegistry) {
+        var circuitBreaker = CircuitBreaker.of(SALES_API, CircuitBreakerConfig.custom()
+                .failureRateThreshold(this.failureRateThreshold)
+                .slidingWindowSize(this.slidingWindowSize)
+                .minimumNumberOfCalls(this.minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(this.waitDurationInOpenState))
+                .permittedNumberOfCallsInHalfOpenState(this.permittedCallsInHalfOpenState)
+                .build());
+        circuitBreaker.getEventPublisher().onStateTransition(event -> log.warn("Sales-API circuit breaker changed state: {}", event.getStateTransition()));
+        TaggedCircuitBreakerMetrics.ofIterable(List.of(circuitBreaker)).bindTo(meterRegistry);
+        return circuitBreaker;
+    }
 
     @Bean
-    public SalesClient salesClient() {
-        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(WebClient.builder().baseUrl(this.baseUrl).build())).build().createClient(SalesClient.class);
+    public SalesClient salesClient(WebClient.Builder webClientBuilder, ConnectionProvider salesConnectionProvider, CircuitBreaker salesCircuitBreaker) {
+        var httpClient = HttpClient.create(salesConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, this.connectTimeout)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(Duration.ofMillis(this.responseTimeout));
+        var webClient = webClientBuilder
+                .baseUrl(this.baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(this.resilienceFilter(salesCircuitBreaker))
+                .build();
+        return HttpServiceProxyFactory.builderFor(WebClientAdapter.create(webClient)).build().createClient(SalesClient.class);
+    }
+
+    private ExchangeFilterFunction resilienceFilter(CircuitBreaker circuitBreaker) {
+        var retry = Retry.backoff(this.maxRetries, Duration.ofMillis(this.retryBackoff))
+                .maxBackoff(Duration.ofMillis(this.retryMaxBackoff))
+                .jitter(this.retryJitter)
+                .filter(this::isRetryable)
+                .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure());
+        return (request, next) -> {
+            var exchange = next.exchange(request)
+                    .flatMap(response -> response.statusCode().is5xxServerError() ? response.createException().flatMap(Mono::error) : Mono.just(response))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+            if (HttpMethod.GET.equals(request.method())) {
+                exchange = exchange.retryWhen(retry);
+            }
+            return exchange.onErrorMap(CallNotPermittedException.class, e -> new ValidationException("The Sales-API is temporarily unavailable."));
+        };
+    }
+
+    private boolean isRetryable(Throwable throwable) {
+        return throwable instanceof WebClientRequestException
+                || throwable instanceof WebClientResponseException responseException && responseException.getStatusCode().is5xxServerError();
     }
 }
@@ -0,0 +1,11 @@
+package br.com.cursoudemy.productapi.config;
+
+public class LikePatternUtil {
+    public static final String ESCAPE_CHARACTER = "!";
+
+    public static String escape(String term) {
+        return term.replace(ESCAPE_CHARACTER, ESCAPE_CHARACTER + ESCAPE_CHARACTER)
+                .replace("%", ESCAPE_CHARACTER + "%")
+                .replace("_", ESCAPE_CHARACTER + "_");
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.cursoudemy.productapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class NdjsonExporter {
+    private static final String LINE_SEPARATOR = "\n";
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public <T, R> void export(Stream<T> entities, Function<T, R> mapper, OutputStream outputStream) throws IOException {
+        try (entities; var writer = this.objectMapper.writer().withRootValueSeparator(LINE_SEPARATOR).writeValues(outputStream)) {
+            var iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                var entity = iterator.next();
+                writer.write(mapper.apply(entity));
+                this.entityManager.detach(entity);
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.cursoudemy.productapi.config;
+
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import org.springframework.data.domain.Limit;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+public class PaginationUtil {
+    public static final String STREAM_FETCH_SIZE = "500";
+    private static final Integer FIRST_CURSOR = 0, DEFAULT_LIMIT = 100, MAX_LIMIT = 1000;
+
+    public static Integer getCursor(Integer after) {
+        return isEmpty(after) ? FIRST_CURSOR : after;
+    }
+
+    public static Limit getLimit(Integer limit) {
+        if (isEmpty(limit)) {
+            return Limit.of(DEFAULT_LIMIT);
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new ValidationException(String.format("The limit must be between 1 and %s.", MAX_LIMIT));
+        }
+        return Limit.of(limit);
+    }
+}
@@ -1,27 +1,49 @@
 package br.com.cursoudemy.productapi.config;
 
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 @Configuration
 public class RabbitConfig {
+    private static final Integer VIRTUAL_THREADS_JAVA_VERSION = 21;
     @Value("${app-config.rabbit.exchange.product}")
     private String productTopicExchange;
     @Value("${app-config.rabbit.routingKey.product-stock}")
     private String productStockKey;
     @Value("${app-config.rabbit.routingKey.sales-confirmation}")
     private String salesConfirmationKey;
+    @Value("${app-config.rabbit.routingKey.catalog-cache}")
+    private String catalogCacheKey;
     @Value("${app-config.rabbit.queue.product-stock}")
     private String productStockMq;
     @Value("${app-config.rabbit.queue.sales-confirmation}")
     private String salesConfirmationMq;
+    @Value("${app-config.rabbit.listener.concurrency}")
+    private Integer listenerConcurrency;
+    @Value("${app-config.rabbit.listener.max-concurrency}")
+    private Integer listenerMaxConcurrency;
+    @Value("${app-config.rabbit.listener.prefetch}")
+    private Integer listenerPrefetch;
+    @Value("${app-config.rabbit.listener.virtual-threads}")
+    private Boolean listenerVirtualThreads;
+    @Value("${app-config.rabbit.listener.batch.enabled}")
+    private Boolean listenerBatchEnabled;
+    @Value("${app-config.rabbit.listener.batch.size}")
+    private Integer listenerBatchSize;
+    @Value("${app-config.rabbit.listener.batch.receive-timeout}")
+    private Long listenerBatchReceiveTimeout;
 
     @Bean
     public TopicExchange productTopicExchange() {
@@ -38,6 +60,11 @@ public class RabbitConfig {
         return new Queue(this.salesConfirmationMq, true);
     }
 
+    @Bean
+    public AnonymousQueue catalogCacheMq() {
+        return new AnonymousQueue();
+    }
+
     @Bean
     public Binding productStockMqBinding(TopicExchange topicExchange) {
         return BindingBuilder.bind(this.productStockMq()).to(topicExchange).with(this.productStockKey);
@@ -48,8 +75,42 @@ public class RabbitConfig {
         return BindingBuilder.bind(this.salesConfirmationMq()).to(topicExchange).with(this.salesConfirmationKey);
     }
 
+    @Bean
+    public Binding catalogCacheMqBinding(TopicExchange topicExchange) {
+        return BindingBuilder.bind(this.catalogCacheMq()).to(topicExchange).with(this.catalogCacheKey);
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory productStockListenerContainerFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        var factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(this.listenerConcurrency);
+        factory.setMaxConcurrentConsumers(this.listenerMaxConcurrency);
+        factory.setPrefetchCount(this.listenerPrefetch);
+        if (this.listenerVirtualThreads) {
+            this.requireVirtualThreadsSupport();
+            var taskExecutor = new SimpleAsyncTaskExecutor("product-stock-");
+            taskExecutor.setVirtualThreads(true);
+            factory.setTaskExecutor(taskExecutor);
+        }
+        if (this.listenerBatchEnabled) {
+            factory.setBatchListener(true);
+            factory.setConsumerBatchEnabled(true);
+            factory.setBatchSize(this.listenerBatchSize);
+            factory.setReceiveTimeout(this.listenerBatchReceiveTimeout);
+        }
+        return factory;
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
     }
+
+    private void requireVirtualThreadsSupport() {
+        var javaVersion = Runtime.version().feature();
+        if (javaVersion < VIRTUAL_THREADS_JAVA_VERSION) {
+            throw new IllegalStateException(String.format("Virtual thread listeners (app-config.rabbit.listener.virtual-threads and the virtual-threads profile) require Java %s or newer, but the application is running on Java %s.", VIRTUAL_THREADS_JAVA_VERSION, javaVersion));
+        }
+    }
 }
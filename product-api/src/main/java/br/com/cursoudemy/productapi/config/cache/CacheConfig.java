@@ -0,0 +1,27 @@
+package br.com.cursoudemy.productapi.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+    @Value("${app-config.services.sales.cache.size}")
+    private Long productSalesCacheSize;
+    @Value("${app-config.services.sales.cache.ttl-seconds}")
+    private Long productSalesCacheTtlSeconds;
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> productSalesCacheCustomizer() {
+        return cacheManager -> cacheManager.registerCustomCache(CatalogCache.PRODUCT_SALES, Caffeine.newBuilder()
+                .maximumSize(this.productSalesCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(this.productSalesCacheTtlSeconds))
+                .recordStats()
+                .build());
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.cursoudemy.productapi.config.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogCache {
+    public static final String PRODUCTS = "products", PRODUCT_LISTS = "productLists", CATEGORIES = "categories", CATEGORY_LISTS = "categoryLists", SUPPLIERS = "suppliers", SUPPLIER_LISTS = "supplierLists", PRODUCT_SALES = "productSales";
+    private final CacheManager cacheManager;
+    private final RabbitTemplate rabbitTemplate;
+    private final String origin = UUID.randomUUID().toString();
+    @Value("${app-config.rabbit.exchange.product}")
+    private String productTopicExchange;
+    private final Set<Integer> pendingProducts = ConcurrentHashMap.newKeySet(), pendingProductSales = ConcurrentHashMap.newKeySet();
+    @Value("${app-config.rabbit.routingKey.catalog-cache}")
+    private String catalogCacheKey;
+
+    public void evictProduct(Integer id, Long version) {
+        this.evictLocalProducts(List.of(id));
+        this.publish(CatalogEntityType.PRODUCT, List.of(id), version);
+    }
+
+    public void evictProducts(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        this.evictLocalProducts(ids);
+        this.pendingProducts.addAll(ids);
+    }
+
+    public void evictProductSales(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productIds.forEach(productId -> this.evict(PRODUCT_SALES, productId));
+        this.pendingProductSales.addAll(productIds);
+    }
+
+    @Scheduled(fixedDelayString = "${app-config.catalog-cache.eviction-broadcast-interval}")
+    public void publishPendingEvictions() {
+        this.publishPending(CatalogEntityType.PRODUCT, this.pendingProducts);
+        this.publishPending(CatalogEntityType.PRODUCT_SALES, this.pendingProductSales);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.publishPendingEvictions();
+    }
+
+    public void evictCategory(Integer id) {
+        this.evictLocalCategory(id);
+        this.publish(CatalogEntityType.CATEGORY, List.of(id), null);
+    }
+
+    public void evictSupplier(Integer id) {
+        this.evictLocalSupplier(id);
+        this.publish(CatalogEntityType.SUPPLIER, List.of(id), null);
+    }
+
+    public void apply(CatalogChangeDTO catalogChangeDTO) {
+        if (this.origin.equals(catalogChangeDTO.getOrigin())) {
+            return;
+        }
+        switch (catalogChangeDTO.getType()) {
+            case PRODUCT -> this.evictLocalProducts(catalogChangeDTO.getIds());
+            case PRODUCT_SALES -> catalogChangeDTO.getIds().forEach(productId -> this.evict(PRODUCT_SALES, productId));
+            case CATEGORY -> catalogChangeDTO.getIds().forEach(this::evictLocalCategory);
+            case SUPPLIER -> catalogChangeDTO.getIds().forEach(this::evictLocalSupplier);
+        }
+    }
+
+    private void evictLocalProducts(Collection<Integer> ids) {
+        ids.forEach(id -> this.evict(PRODUCTS, id));
+        this.clear(PRODUCT_LISTS);
+    }
+
+    private void evictLocalCategory(Integer id) {
+        this.evict(CATEGORIES, id);
+        this.clear(CATEGORY_LISTS);
+        this.clear(PRODUCTS);
+        this.clear(PRODUCT_LISTS);
+    }
+
+    private void evictLocalSupplier(Integer id) {
+        this.evict(SUPPLIERS, id);
+        this.clear(SUPPLIER_LISTS);
+        this.clear(PRODUCTS);
+        this.clear(PRODUCT_LISTS);
+    }
+
+    private void publishPending(CatalogEntityType type, Set<Integer> pending) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        var ids = List.copyOf(pending);
+        pending.removeAll(ids);
+        this.publish(type, ids, null);
+    }
+
+    private void publish(CatalogEntityType type, List<Integer> ids, Long version) {
+        try {
+            this.rabbitTemplate.convertAndSend(this.productTopicExchange, this.catalogCacheKey, new CatalogChangeDTO(type, ids, version, this.origin));
+        } catch (Exception e) {
+            log.warn("Error while trying to publish catalog change for {} {}: {}", type, ids, e.getMessage());
+        }
+    }
+
+    private void evict(String cacheName, Integer id) {
+        var cache = this.cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    private void clear(String cacheName) {
+        var cache = this.cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
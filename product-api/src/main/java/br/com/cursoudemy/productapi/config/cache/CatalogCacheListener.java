@@ -0,0 +1,16 @@
+package br.com.cursoudemy.productapi.config.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogCacheListener {
+    private final CatalogCache catalogCache;
+
+    @RabbitListener(queues = "#{catalogCacheMq.name}")
+    public void recieveCatalogChangeMessage(CatalogChangeDTO catalogChangeDTO) {
+        this.catalogCache.apply(catalogChangeDTO);
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.cursoudemy.productapi.config.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChangeDTO {
+    private CatalogEntityType type;
+    private List<Integer> ids;
+    private Long version;
+    private String origin;
+}
@@ -0,0 +1,5 @@
+package br.com.cursoudemy.productapi.config.cache;
+
+public enum CatalogEntityType {
+    PRODUCT, PRODUCT_SALES, CATEGORY, SUPPLIER
+}
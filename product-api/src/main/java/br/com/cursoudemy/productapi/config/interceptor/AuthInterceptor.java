@@ -8,18 +8,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.UUID;
-
 import static org.springframework.util.ObjectUtils.isEmpty;
 
 @RequiredArgsConstructor
 public class AuthInterceptor implements HandlerInterceptor {
-    private static final String AUTHORIZATION = "Authorization", TRANSACTION_ID = "transactionid";
+    private static final String AUTHORIZATION = "Authorization", TRANSACTION_ID = "transactionid", SERVICE_ID = "serviceid";
     private final JwtService jwtService;
 
     @Override
     public boolean preHandle(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, Object handler) {
-        if (this.isOptions(httpServletRequest) || this.isPublicUrl(httpServletRequest.getRequestURI())) {
+        if (this.isOptions(httpServletRequest)) {
             return true;
         }
         if (isEmpty(httpServletRequest.getHeader(TRANSACTION_ID))) {
@@ -27,14 +25,10 @@ public class AuthInterceptor implements HandlerInterceptor {
         }
         var authorization = httpServletRequest.getHeader(AUTHORIZATION);
         this.jwtService.validateAuthorization(authorization);
-        httpServletRequest.setAttribute("serviceid", UUID.randomUUID().toString());
+        httpServletRequest.setAttribute(SERVICE_ID, ServiceIdGenerator.next());
         return true;
     }
 
-    private boolean isPublicUrl(String url) {
-        return Urls.PROTECTED_URLS.stream().noneMatch(url::contains);
-    }
-
     private boolean isOptions(HttpServletRequest httpServletRequest) {
         return HttpMethod.OPTIONS.name().equals(httpServletRequest.getMethod());
     }
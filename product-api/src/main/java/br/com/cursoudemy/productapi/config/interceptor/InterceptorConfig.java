@@ -1,25 +1,35 @@
 package br.com.cursoudemy.productapi.config.interceptor;
 
+import br.com.cursoudemy.productapi.config.logging.LogContextInterceptor;
+import br.com.cursoudemy.productapi.config.metrics.StatementMetricsInterceptor;
 import br.com.cursoudemy.productapi.modules.jwt.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class InterceptorConfig implements WebMvcConfigurer {
+    private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
+
     @Bean
     public AuthInterceptor authInterceptor() {
-        return new AuthInterceptor(this.jwtService());
+        return new AuthInterceptor(this.jwtService);
     }
 
     @Bean
-    public JwtService jwtService() {
-        return new JwtService();
+    public StatementMetricsInterceptor statementMetricsInterceptor() {
+        return new StatementMetricsInterceptor(this.meterRegistry);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry interceptorRegistry) {
-        interceptorRegistry.addInterceptor(this.authInterceptor());
+        interceptorRegistry.addInterceptor(this.statementMetricsInterceptor());
+        interceptorRegistry.addInterceptor(this.authInterceptor()).addPathPatterns(Urls.PROTECTED_URLS);
+        interceptorRegistry.addInterceptor(new LogContextInterceptor());
     }
 }
@@ -0,0 +1,13 @@
+package br.com.cursoudemy.productapi.config.interceptor;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ServiceIdGenerator {
+    private static final String INSTANCE_PREFIX = Long.toHexString(ThreadLocalRandom.current().nextLong()) + "-";
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    public static String next() {
+        return INSTANCE_PREFIX + Long.toHexString(SEQUENCE.incrementAndGet());
+    }
+}
@@ -1,7 +1,5 @@
 package br.com.cursoudemy.productapi.config.interceptor;
 
-import java.util.List;
-
 public class Urls {
-    public static final List<String> PROTECTED_URLS = List.of("api/product", "api/supplier", "api/category");
+    public static final String[] PROTECTED_URLS = {"/api/product", "/api/product/**", "/api/supplier", "/api/supplier/**", "/api/category", "/api/category/**"};
 }
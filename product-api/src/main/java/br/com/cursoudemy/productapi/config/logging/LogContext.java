@@ -0,0 +1,27 @@
+package br.com.cursoudemy.productapi.config.logging;
+
+import org.slf4j.MDC;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+public class LogContext {
+    public static final String TRANSACTION_ID = "transactionid", SERVICE_ID = "serviceid";
+
+    public static void put(String transactionId, Object serviceId) {
+        if (!isEmpty(transactionId)) {
+            MDC.put(TRANSACTION_ID, transactionId);
+        }
+        if (!isEmpty(serviceId)) {
+            MDC.put(SERVICE_ID, serviceId.toString());
+        }
+    }
+
+    public static void clearTransactionId() {
+        MDC.remove(TRANSACTION_ID);
+    }
+
+    public static void clear() {
+        MDC.remove(TRANSACTION_ID);
+        MDC.remove(SERVICE_ID);
+    }
+}
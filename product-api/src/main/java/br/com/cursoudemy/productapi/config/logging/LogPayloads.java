@@ -0,0 +1,39 @@
+package br.com.cursoudemy.productapi.config.logging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class LogPayloads {
+    private static final String NOT_SAMPLED = "<not sampled>";
+    private final ObjectMapper objectMapper;
+    private final Double sampleRate;
+
+    public LogPayloads(ObjectMapper objectMapper, @Value("${app-config.logging.payload.sample-rate}") Double sampleRate) {
+        this.objectMapper = objectMapper;
+        this.sampleRate = sampleRate;
+    }
+
+    public Object of(Object payload) {
+        return this.isSampled() ? new JsonPayload(this.objectMapper, payload) : NOT_SAMPLED;
+    }
+
+    private boolean isSampled() {
+        return this.sampleRate >= 1 || this.sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < this.sampleRate;
+    }
+
+    private record JsonPayload(ObjectMapper objectMapper, Object payload) {
+        @Override
+        public String toString() {
+            try {
+                return this.objectMapper.writeValueAsString(this.payload);
+            } catch (JsonProcessingException e) {
+                return String.valueOf(this.payload);
+            }
+        }
+    }
+}
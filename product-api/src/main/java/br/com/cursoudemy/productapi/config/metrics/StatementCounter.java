@@ -0,0 +1,17 @@
+package br.com.cursoudemy.productapi.config.metrics;
+
+public class StatementCounter {
+    private static final ThreadLocal<int[]> STATEMENTS = ThreadLocal.withInitial(() -> new int[1]);
+
+    public static void reset() {
+        STATEMENTS.get()[0] = 0;
+    }
+
+    public static void increment() {
+        STATEMENTS.get()[0]++;
+    }
+
+    public static int get() {
+        return STATEMENTS.get()[0];
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.cursoudemy.productapi.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class StatementCountingInspector implements StatementInspector {
+    @Override
+    public String inspect(String sql) {
+        StatementCounter.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.cursoudemy.productapi.config.metrics;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class StatementCountingJdbcTemplate extends JdbcTemplate {
+    public StatementCountingJdbcTemplate(DataSource dataSource) {
+        super(dataSource);
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement statement) throws SQLException {
+        StatementCounter.increment();
+        super.applyStatementSettings(statement);
+    }
+}
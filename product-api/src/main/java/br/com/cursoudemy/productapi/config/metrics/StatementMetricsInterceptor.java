@@ -0,0 +1,50 @@
+package br.com.cursoudemy.productapi.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@RequiredArgsConstructor
+public class StatementMetricsInterceptor implements AsyncHandlerInterceptor {
+    private static final String METRIC_NAME = "http.server.db.statements", UNKNOWN_URI = "UNKNOWN";
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 5, 10, 20, 50, 100};
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, Object handler) {
+        StatementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, Object handler) {
+        StatementCounter.reset();
+    }
+
+    // Statements of async requests (StreamingResponseBody, the NDJSON export) run on another thread and are not counted.
+    @Override
+    public void afterCompletion(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, Object handler, Exception exception) {
+        if (httpServletRequest.getDispatcherType() == DispatcherType.ASYNC) {
+            StatementCounter.reset();
+            return;
+        }
+        var uri = httpServletRequest.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .baseUnit("statements")
+                .tag("method", httpServletRequest.getMethod())
+                .tag("uri", isEmpty(uri) ? UNKNOWN_URI : uri.toString())
+                .tag("outcome", Outcome.forStatus(httpServletResponse.getStatus()).name())
+                .serviceLevelObjectives(STATEMENT_BUCKETS)
+                .register(this.meterRegistry)
+                .record(StatementCounter.get());
+        StatementCounter.reset();
+    }
+}
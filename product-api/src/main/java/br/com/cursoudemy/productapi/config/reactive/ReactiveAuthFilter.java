@@ -0,0 +1,42 @@
+package br.com.cursoudemy.productapi.config.reactive;
+
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import br.com.cursoudemy.productapi.config.interceptor.ServiceIdGenerator;
+import br.com.cursoudemy.productapi.config.logging.LogContext;
+import br.com.cursoudemy.productapi.modules.jwt.service.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@RequiredArgsConstructor
+public class ReactiveAuthFilter implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+    private static final String AUTHORIZATION = "Authorization", TRANSACTION_ID = LogContext.TRANSACTION_ID, SERVICE_ID = LogContext.SERVICE_ID;
+    private final JwtService jwtService;
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest serverRequest, HandlerFunction<ServerResponse> next) {
+        var headers = serverRequest.headers();
+        var transactionId = headers.firstHeader(TRANSACTION_ID);
+        if (isEmpty(transactionId)) {
+            return Mono.error(new ValidationException("The transactionid header is required."));
+        }
+        var serviceId = ServiceIdGenerator.next();
+        return Mono.fromRunnable(() -> {
+                    LogContext.put(transactionId, serviceId);
+                    try {
+                        this.jwtService.validateAuthorization(headers.firstHeader(AUTHORIZATION));
+                    } finally {
+                        LogContext.clear();
+                    }
+                })
+                .then(Mono.defer(() -> {
+                    serverRequest.attributes().put(SERVICE_ID, serviceId);
+                    return next.handle(serverRequest);
+                }));
+    }
+}
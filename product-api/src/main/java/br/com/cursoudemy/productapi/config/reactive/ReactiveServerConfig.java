@@ -0,0 +1,61 @@
+package br.com.cursoudemy.productapi.config.reactive;
+
+import br.com.cursoudemy.productapi.config.exception.AuthenticationException;
+import br.com.cursoudemy.productapi.config.exception.ExceptionDetails;
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import br.com.cursoudemy.productapi.modules.catalog.handler.CatalogHandler;
+import br.com.cursoudemy.productapi.modules.jwt.service.JwtService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+@Configuration
+@Slf4j
+@ConditionalOnProperty(value = "app-config.reactive.enabled", havingValue = "true")
+public class ReactiveServerConfig {
+    @Value("${app-config.reactive.port}")
+    private Integer port;
+
+    @Bean(destroyMethod = "disposeNow")
+    public DisposableServer reactiveCatalogServer(CatalogHandler catalogHandler, JwtService jwtService, ObjectMapper objectMapper) {
+        var routes = RouterFunctions.route()
+                .GET("/api/product", catalogHandler::findProducts)
+                .GET("/api/product/{id}", catalogHandler::findProductById)
+                .GET("/api/supplier", catalogHandler::findSuppliers)
+                .GET("/api/supplier/{id}", catalogHandler::findSupplierById)
+                .GET("/api/category", catalogHandler::findCategories)
+                .GET("/api/category/{id}", catalogHandler::findCategoryById)
+                .onError(ValidationException.class, (exception, serverRequest) -> this.error(HttpStatus.BAD_REQUEST, exception))
+                .onError(AuthenticationException.class, (exception, serverRequest) -> this.error(HttpStatus.UNAUTHORIZED, exception))
+                .filter(new ReactiveAuthFilter(jwtService))
+                .build();
+        var handlerStrategies = HandlerStrategies.builder().codecs(configurer -> {
+            configurer.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+            configurer.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+        }).build();
+        var httpHandler = RouterFunctions.toHttpHandler(routes, handlerStrategies);
+        var server = HttpServer.create().port(this.port).handle(new ReactorHttpHandlerAdapter(httpHandler)).bindNow();
+        log.info("Reactive catalog API started on port {}", server.port());
+        return server;
+    }
+
+    private Mono<ServerResponse> error(HttpStatus status, Throwable exception) {
+        var details = new ExceptionDetails();
+        details.setStatus(status.value());
+        details.setMessage(exception.getMessage());
+        return ServerResponse.status(status).bodyValue(details);
+    }
+}
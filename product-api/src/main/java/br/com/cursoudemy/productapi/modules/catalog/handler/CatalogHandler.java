@@ -0,0 +1,111 @@
+package br.com.cursoudemy.productapi.modules.catalog.handler;
+
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import br.com.cursoudemy.productapi.config.logging.LogContext;
+import br.com.cursoudemy.productapi.modules.category.service.CategoryService;
+import br.com.cursoudemy.productapi.modules.product.service.ProductService;
+import br.com.cursoudemy.productapi.modules.supplier.service.SupplierService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app-config.reactive.enabled", havingValue = "true")
+public class CatalogHandler {
+    private static final String ID = "id", AFTER = "after", LIMIT = "limit";
+    private final ProductService productService;
+    private final SupplierService supplierService;
+    private final CategoryService categoryService;
+    @Value("${app-config.reactive.jdbc-threads}")
+    private Integer jdbcThreads;
+    @Value("${app-config.reactive.jdbc-queue-size}")
+    private Integer jdbcQueueSize;
+    private Scheduler jdbcScheduler;
+
+    @PostConstruct
+    public void init() {
+        this.jdbcScheduler = Schedulers.newBoundedElastic(this.jdbcThreads, this.jdbcQueueSize, "catalog-jdbc");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.jdbcScheduler.dispose();
+    }
+
+    public Mono<ServerResponse> findProducts(ServerRequest serverRequest) {
+        var after = this.getIntegerParam(serverRequest, AFTER);
+        var limit = this.getIntegerParam(serverRequest, LIMIT);
+        return this.respond(serverRequest, () -> isEmpty(after) && isEmpty(limit) ? this.productService.findAll() : this.productService.findAll(after, limit));
+    }
+
+    public Mono<ServerResponse> findProductById(ServerRequest serverRequest) {
+        var id = this.getId(serverRequest);
+        return this.respond(serverRequest, () -> this.productService.findByIdResponse(id));
+    }
+
+    public Mono<ServerResponse> findSuppliers(ServerRequest serverRequest) {
+        var after = this.getIntegerParam(serverRequest, AFTER);
+        var limit = this.getIntegerParam(serverRequest, LIMIT);
+        return this.respond(serverRequest, () -> isEmpty(after) && isEmpty(limit) ? this.supplierService.findAll() : this.supplierService.findAll(after, limit));
+    }
+
+    public Mono<ServerResponse> findSupplierById(ServerRequest serverRequest) {
+        var id = this.getId(serverRequest);
+        return this.respond(serverRequest, () -> this.supplierService.findByIdResponse(id));
+    }
+
+    public Mono<ServerResponse> findCategories(ServerRequest serverRequest) {
+        var after = this.getIntegerParam(serverRequest, AFTER);
+        var limit = this.getIntegerParam(serverRequest, LIMIT);
+        return this.respond(serverRequest, () -> isEmpty(after) && isEmpty(limit) ? this.categoryService.findAll() : this.categoryService.findAll(after, limit));
+    }
+
+    public Mono<ServerResponse> findCategoryById(ServerRequest serverRequest) {
+        var id = this.getId(serverRequest);
+        return this.respond(serverRequest, () -> this.categoryService.findByIdResponse(id));
+    }
+
+    private Mono<ServerResponse> respond(ServerRequest serverRequest, Callable<?> query) {
+        var transactionId = serverRequest.headers().firstHeader(LogContext.TRANSACTION_ID);
+        var serviceId = serverRequest.attribute(LogContext.SERVICE_ID).orElse(null);
+        return Mono.fromCallable(() -> {
+                    LogContext.put(transactionId, serviceId);
+                    try {
+                        return query.call();
+                    } finally {
+                        LogContext.clear();
+                    }
+                })
+                .subscribeOn(this.jdbcScheduler).flatMap(body -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(body));
+    }
+
+    private Integer getId(ServerRequest serverRequest) {
+        return this.parseInteger(serverRequest.pathVariable(ID), ID);
+    }
+
+    private Integer getIntegerParam(ServerRequest serverRequest, String name) {
+        return serverRequest.queryParam(name).map(value -> this.parseInteger(value, name)).orElse(null);
+    }
+
+    private Integer parseInteger(String value, String name) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new ValidationException(String.format("The %s must be a number.", name));
+        }
+    }
+}
@@ -5,10 +5,14 @@ import br.com.cursoudemy.productapi.modules.category.dto.CategoryRequest;
 import br.com.cursoudemy.productapi.modules.category.dto.CategoryResponse;
 import br.com.cursoudemy.productapi.modules.category.service.CategoryService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
+import static org.springframework.util.ObjectUtils.isEmpty;
+
 @RestController
 @RequestMapping("/api/category")
 @AllArgsConstructor
@@ -21,8 +25,16 @@ public class CategoryController {
     }
 
     @GetMapping
-    public List<CategoryResponse> findAll() {
-        return this.categoryService.findAll();
+    public List<CategoryResponse> findAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+        if (isEmpty(after) && isEmpty(limit)) {
+            return this.categoryService.findAll();
+        }
+        return this.categoryService.findAll(after, limit);
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportAll() {
+        return this.categoryService::exportAll;
     }
 
     @GetMapping("{id}")
@@ -14,4 +14,11 @@ public class CategoryResponse {
         BeanUtils.copyProperties(category, response);
         return response;
     }
+
+    public static CategoryResponse of(Integer id, String description) {
+        var response = new CategoryResponse();
+        response.setId(id);
+        response.setDescription(description);
+        return response;
+    }
 }
@@ -14,7 +14,8 @@ import org.springframework.beans.BeanUtils;
 @Table(name = "CATEGORY")
 public class Category {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_sequence")
+    @SequenceGenerator(name = "category_sequence", sequenceName = "CATEGORY_SEQUENCE", allocationSize = 50)
     private Integer id;
     @Column(name = "DESCRIPTION", nullable = false)
     private String description;
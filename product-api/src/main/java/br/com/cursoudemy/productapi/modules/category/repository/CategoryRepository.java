@@ -1,10 +1,24 @@
 package br.com.cursoudemy.productapi.modules.category.repository;
 
+import br.com.cursoudemy.productapi.config.PaginationUtil;
 import br.com.cursoudemy.productapi.modules.category.model.Category;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
     List<Category> findByDescriptionIgnoreCaseContaining(String description);
+    List<Category> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = PaginationUtil.STREAM_FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT c FROM Category c ORDER BY c.id")
+    Stream<Category> streamAll();
 }
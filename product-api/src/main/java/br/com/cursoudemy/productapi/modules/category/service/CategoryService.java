@@ -1,5 +1,8 @@
 package br.com.cursoudemy.productapi.modules.category.service;
 
+import br.com.cursoudemy.productapi.config.NdjsonExporter;
+import br.com.cursoudemy.productapi.config.PaginationUtil;
+import br.com.cursoudemy.productapi.config.cache.CatalogCache;
 import br.com.cursoudemy.productapi.config.exception.SuccessResponse;
 import br.com.cursoudemy.productapi.config.exception.ValidationException;
 import br.com.cursoudemy.productapi.modules.category.dto.CategoryRequest;
@@ -8,9 +11,13 @@ import br.com.cursoudemy.productapi.modules.category.model.Category;
 import br.com.cursoudemy.productapi.modules.category.repository.CategoryRepository;
 import br.com.cursoudemy.productapi.modules.product.service.ProductService;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,17 +27,30 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 @AllArgsConstructor(onConstructor_ = {@Lazy})
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final CatalogCache catalogCache;
+    private final NdjsonExporter ndjsonExporter;
     @Lazy
     private final ProductService productService;
 
+    @Cacheable(cacheNames = CatalogCache.CATEGORIES, key = "#id")
     public CategoryResponse findByIdResponse(Integer id) {
         return CategoryResponse.of(this.findById(id));
     }
 
+    @Cacheable(cacheNames = CatalogCache.CATEGORY_LISTS, key = "'all'")
     public List<CategoryResponse> findAll() {
         return this.categoryRepository.findAll().stream().map(CategoryResponse::of).collect(Collectors.toList());
     }
 
+    public List<CategoryResponse> findAll(Integer after, Integer limit) {
+        return this.categoryRepository.findByIdGreaterThanOrderByIdAsc(PaginationUtil.getCursor(after), PaginationUtil.getLimit(limit)).stream().map(CategoryResponse::of).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream outputStream) throws IOException {
+        this.ndjsonExporter.export(this.categoryRepository.streamAll(), CategoryResponse::of, outputStream);
+    }
+
     public List<CategoryResponse> findByDescription(String description) {
         if (isEmpty(description)) {
             throw new ValidationException("The category description must be informed.");
@@ -46,6 +66,7 @@ public class CategoryService {
     public CategoryResponse save(CategoryRequest categoryRequest) {
         this.validateCategoryNameInformed(categoryRequest);
         var category = this.categoryRepository.save(Category.of(categoryRequest));
+        this.catalogCache.evictCategory(category.getId());
         return CategoryResponse.of(category);
     }
 
@@ -55,6 +76,7 @@ public class CategoryService {
         var category = Category.of(categoryRequest);
         category.setId(id);
         this.categoryRepository.save(category);
+        this.catalogCache.evictCategory(id);
         return CategoryResponse.of(category);
     }
 
@@ -70,6 +92,7 @@ public class CategoryService {
             throw new ValidationException("You cannot delete this category because it's already defined by a product.");
         }
         this.categoryRepository.deleteById(id);
+        this.catalogCache.evictCategory(id);
         return SuccessResponse.create("The category was deleted.");
     }
 
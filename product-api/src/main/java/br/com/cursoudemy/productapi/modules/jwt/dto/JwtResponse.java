@@ -12,14 +12,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class JwtResponse {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private Integer id;
     private String name, email;
 
     public static JwtResponse getUser(Claims claims) {
         try {
-            return new ObjectMapper().convertValue(claims.get("authUser"), JwtResponse.class);
-        } catch (Exception e) {
-            e.printStackTrace();
+            return OBJECT_MAPPER.convertValue(claims.get("authUser"), JwtResponse.class);
+        } catch (IllegalArgumentException e) {
             return null;
         }
     }
@@ -2,30 +2,85 @@ package br.com.cursoudemy.productapi.modules.jwt.service;
 
 import br.com.cursoudemy.productapi.config.exception.AuthenticationException;
 import br.com.cursoudemy.productapi.modules.jwt.dto.JwtResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
 import static org.springframework.util.ObjectUtils.isEmpty;
 
 @Service
+@Slf4j
+@RequiredArgsConstructor
 public class JwtService {
-    private static final String EMPTY_SPACE = " ";
-    private static final Integer TOKEN_INDEX = 1;
+    private static final String DIGEST_ALGORITHM = "SHA-256", VALIDATION_METRIC = "auth.token.validation", RESULT_TAG = "result";
+    private static final char EMPTY_SPACE = ' ';
+    private final MeterRegistry meterRegistry;
     @Value("${app-config.secrets.api-secret}")
     private String apiSecret;
+    @Value("${app-config.secrets.token-cache.size}")
+    private Long tokenCacheSize;
+    @Value("${app-config.secrets.token-cache.max-ttl-seconds}")
+    private Long tokenCacheMaxTtlSeconds;
+    private JwtParser jwtParser;
+    private Cache<String, VerifiedToken> verifiedTokens;
+    private Timer cachedValidations, verifiedValidations, rejectedValidations;
+
+    @PostConstruct
+    public void init() {
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(this.apiSecret.getBytes())).build();
+        this.verifiedTokens = Caffeine.newBuilder().maximumSize(this.tokenCacheSize).expireAfter(Expiry.creating(this::getTimeToExpire)).recordStats().build();
+        this.cachedValidations = this.validationTimer("cached");
+        this.verifiedValidations = this.validationTimer("verified");
+        this.rejectedValidations = this.validationTimer("rejected");
+        CaffeineCacheMetrics.monitor(this.meterRegistry, this.verifiedTokens, "verified-tokens");
+    }
 
     public void validateAuthorization(String token) {
+        var startTime = System.nanoTime();
+        try {
+            var validation = this.validate(token);
+            validation.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        } catch (AuthenticationException e) {
+            this.rejectedValidations.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer validate(String token) {
         var accessToken = this.extractToken(token);
+        var tokenDigest = this.digest(accessToken);
+        if (this.verifiedTokens.getIfPresent(tokenDigest) != null) {
+            return this.cachedValidations;
+        }
         try {
-            var claims = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(this.apiSecret.getBytes())).build().parseClaimsJws(accessToken).getBody();
+            var claims = this.jwtParser.parseClaimsJws(accessToken).getBody();
             var user = JwtResponse.getUser(claims);
             if (isEmpty(user) || isEmpty(user.getId())) {
                 throw new AuthenticationException("The user is not valid.");
             }
+            this.verifiedTokens.put(tokenDigest, new VerifiedToken(claims.getExpiration()));
+            return this.verifiedValidations;
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("Invalid access token: {}", e.getMessage());
             throw new AuthenticationException("Error while trying to process the Access Token.");
         }
     }
@@ -34,9 +89,36 @@ public class JwtService {
         if (isEmpty(token)) {
             throw new AuthenticationException("The access token was not informed.");
         }
-        if (token.contains(EMPTY_SPACE)) {
-            return token.split(EMPTY_SPACE)[TOKEN_INDEX];
+        var separatorIndex = token.indexOf(EMPTY_SPACE);
+        return separatorIndex < 0 ? token : token.substring(separatorIndex + 1);
+    }
+
+    private String digest(String accessToken) {
+        var digest = newMessageDigest().digest(accessToken.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Timer validationTimer(String result) {
+        return Timer.builder(VALIDATION_METRIC).tag(RESULT_TAG, result).publishPercentileHistogram().register(this.meterRegistry);
+    }
+
+    private Duration getTimeToExpire(String tokenDigest, VerifiedToken verifiedToken) {
+        var maxTtl = Duration.ofSeconds(this.tokenCacheMaxTtlSeconds);
+        if (isEmpty(verifiedToken.expiration())) {
+            return maxTtl;
         }
-        return token;
+        var timeToExpire = Duration.ofMillis(Math.max(0, verifiedToken.expiration().getTime() - System.currentTimeMillis()));
+        return timeToExpire.compareTo(maxTtl) < 0 ? timeToExpire : maxTtl;
+    }
+
+    private record VerifiedToken(Date expiration) {
     }
 }
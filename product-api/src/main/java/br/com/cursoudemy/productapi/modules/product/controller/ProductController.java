@@ -5,12 +5,18 @@ import br.com.cursoudemy.productapi.modules.product.dto.ProductCheckStockRequest
 import br.com.cursoudemy.productapi.modules.product.dto.ProductRequest;
 import br.com.cursoudemy.productapi.modules.product.dto.ProductResponse;
 import br.com.cursoudemy.productapi.modules.product.dto.ProductSalesResponse;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductStockCheckResponse;
 import br.com.cursoudemy.productapi.modules.product.service.ProductService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
+import static org.springframework.util.ObjectUtils.isEmpty;
+
 @RestController
 @RequestMapping("/api/product")
 @AllArgsConstructor
@@ -23,8 +29,16 @@ public class ProductController {
     }
 
     @GetMapping
-    public List<ProductResponse> findAll() {
-        return this.productService.findAll();
+    public List<ProductResponse> findAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+        if (isEmpty(after) && isEmpty(limit)) {
+            return this.productService.findAll();
+        }
+        return this.productService.findAll(after, limit);
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportAll() {
+        return this.productService::exportAll;
     }
 
     @GetMapping("{id}")
@@ -37,6 +51,11 @@ public class ProductController {
         return this.productService.findByName(name);
     }
 
+    @GetMapping("search")
+    public List<ProductResponse> search(@RequestParam String name, @RequestParam(required = false) Integer limit, @RequestParam(required = false) Boolean prefix) {
+        return this.productService.search(name, limit, prefix);
+    }
+
     @GetMapping("category/{categoryId}")
     public List<ProductResponse> findByCategoryId(@PathVariable Integer categoryId) {
         return this.productService.findByCategoryId(categoryId);
@@ -57,13 +76,19 @@ public class ProductController {
         return this.productService.update(productRequest, id);
     }
 
+    @GetMapping("sales")
+    public List<ProductSalesResponse> findProductsSales(@RequestParam List<Integer> ids) {
+        return this.productService.findProductsSales(ids);
+    }
+
     @GetMapping("{id}/sales")
     public ProductSalesResponse findProductSales(@PathVariable Integer id) {
         return this.productService.findProductSales(id);
     }
 
     @PostMapping("check-stock")
-    public SuccessResponse checkProductsStock(@RequestBody ProductCheckStockRequest productCheckStockRequest) {
-        return this.productService.checkProductsStock(productCheckStockRequest);
+    public ResponseEntity<ProductStockCheckResponse> checkProductsStock(@RequestBody ProductCheckStockRequest productCheckStockRequest) {
+        var response = this.productService.checkProductsStock(productCheckStockRequest);
+        return ResponseEntity.status(response.getStatus()).body(response);
     }
 }
@@ -30,4 +30,8 @@ public class ProductResponse {
     public static ProductResponse of(Product product) {
         return ProductResponse.builder().id(product.getId()).name(product.getName()).quantityAvailable(product.getQuantityAvailable()).createdAt(product.getCreatedAt()).supplierResponse(SupplierResponse.of(product.getSupplier())).categoryResponse(CategoryResponse.of(product.getCategory())).build();
     }
+
+    public static ProductResponse of(ProductView productView) {
+        return ProductResponse.builder().id(productView.getId()).name(productView.getName()).quantityAvailable(productView.getQuantityAvailable()).createdAt(productView.getCreatedAt()).supplierResponse(SupplierResponse.of(productView.getSupplierId(), productView.getSupplierName())).categoryResponse(CategoryResponse.of(productView.getCategoryId(), productView.getCategoryDescription())).build();
+    }
 }
@@ -32,4 +32,8 @@ public class ProductSalesResponse {
     public static ProductSalesResponse of(Product product, List<String> sales) {
         return ProductSalesResponse.builder().id(product.getId()).name(product.getName()).quantityAvailable(product.getQuantityAvailable()).createdAt(product.getCreatedAt()).supplierResponse(SupplierResponse.of(product.getSupplier())).categoryResponse(CategoryResponse.of(product.getCategory())).sales(sales).build();
     }
+
+    public static ProductSalesResponse of(ProductView productView, List<String> sales) {
+        return ProductSalesResponse.builder().id(productView.getId()).name(productView.getName()).quantityAvailable(productView.getQuantityAvailable()).createdAt(productView.getCreatedAt()).supplierResponse(SupplierResponse.of(productView.getSupplierId(), productView.getSupplierName())).categoryResponse(CategoryResponse.of(productView.getCategoryId(), productView.getCategoryDescription())).sales(sales).build();
+    }
 }
@@ -0,0 +1,20 @@
+package br.com.cursoudemy.productapi.modules.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockCheckItemResponse {
+    private Integer productId, requested, available, shortfall;
+    private Boolean found;
+    private String message;
+
+    public boolean isInStock() {
+        return Boolean.TRUE.equals(this.found) && this.shortfall == 0;
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.cursoudemy.productapi.modules.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockCheckResponse {
+    private Integer status;
+    private String message;
+    private List<ProductStockCheckItemResponse> products;
+
+    public static ProductStockCheckResponse of(List<ProductStockCheckItemResponse> products) {
+        var inStock = products.stream().allMatch(ProductStockCheckItemResponse::isInStock);
+        var status = inStock ? HttpStatus.OK : HttpStatus.BAD_REQUEST;
+        var message = inStock ? "The stock is ok!" : "There are products out of stock.";
+        return ProductStockCheckResponse.builder().status(status.value()).message(message).products(products).build();
+    }
+}
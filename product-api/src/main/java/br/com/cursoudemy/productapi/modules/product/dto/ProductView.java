@@ -0,0 +1,21 @@
+package br.com.cursoudemy.productapi.modules.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductView {
+    private Integer id;
+    private String name;
+    private Integer quantityAvailable;
+    private LocalDateTime createdAt;
+    private Integer supplierId;
+    private String supplierName;
+    private Integer categoryId;
+    private String categoryDescription;
+}
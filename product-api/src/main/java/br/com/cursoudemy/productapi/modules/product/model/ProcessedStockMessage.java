@@ -0,0 +1,24 @@
+package br.com.cursoudemy.productapi.modules.product.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "PROCESSED_STOCK_MESSAGE")
+public class ProcessedStockMessage {
+    @Id
+    @Column(name = "MESSAGE_KEY", nullable = false)
+    private String messageKey;
+    @Column(name = "PROCESSED_AT", nullable = false)
+    private LocalDateTime processedAt;
+}
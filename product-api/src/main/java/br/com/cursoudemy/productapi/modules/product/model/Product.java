@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 @Builder
 public class Product {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_sequence")
+    @SequenceGenerator(name = "product_sequence", sequenceName = "PRODUCT_SEQUENCE", allocationSize = 50)
     private Integer id;
     @Column(name = "NAME", nullable = false)
     private String name;
@@ -33,6 +34,9 @@ public class Product {
     private Integer quantityAvailable;
     @Column(name = "CREATED_AT", nullable = false, updatable = false)
     private LocalDateTime createdAt;
+    @Version
+    @Column(name = "VERSION", nullable = false)
+    private Long version;
 
     @PrePersist
     public void prePersist() {
@@ -43,7 +47,10 @@ public class Product {
         return Product.builder().name(productRequest.getName()).quantityAvailable(productRequest.getQuantityAvailable()).supplier(supplier).category(category).build();
     }
 
-    public void updateStock(Integer quantity) {
-        this.quantityAvailable = this.quantityAvailable - quantity;
+    public void update(ProductRequest productRequest, Supplier supplier, Category category) {
+        this.name = productRequest.getName();
+        this.quantityAvailable = productRequest.getQuantityAvailable();
+        this.supplier = supplier;
+        this.category = category;
     }
 }
@@ -0,0 +1,36 @@
+package br.com.cursoudemy.productapi.modules.product.rabbitmq;
+
+import br.com.cursoudemy.productapi.config.interceptor.ServiceIdGenerator;
+import br.com.cursoudemy.productapi.config.logging.LogContext;
+import br.com.cursoudemy.productapi.config.logging.LogPayloads;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductStockDTO;
+import br.com.cursoudemy.productapi.modules.product.service.ProductService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app-config.rabbit.listener.batch.enabled", havingValue = "true")
+public class ProductStockBatchListener {
+    private final ProductService productService;
+    private final LogPayloads logPayloads;
+    private final ProductStockMetrics productStockMetrics;
+
+    @RabbitListener(queues = "${app-config.rabbit.queue.product-stock}", containerFactory = "productStockListenerContainerFactory")
+    public void recieveProductStockMessages(List<ProductStockDTO> productStockDTOs) {
+        var sample = this.productStockMetrics.start();
+        LogContext.put(null, ServiceIdGenerator.next());
+        try {
+            log.info("Receiving batch with {} product stock messages with data: {}", productStockDTOs.size(), this.logPayloads.of(productStockDTOs));
+            this.productStockMetrics.recordBatch(sample, productStockDTOs.size(), this.productService.updateProductsStock(productStockDTOs));
+        } finally {
+            LogContext.clear();
+        }
+    }
+}
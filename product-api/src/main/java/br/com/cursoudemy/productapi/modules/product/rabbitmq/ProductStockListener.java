@@ -1,24 +1,34 @@
 package br.com.cursoudemy.productapi.modules.product.rabbitmq;
 
+import br.com.cursoudemy.productapi.config.interceptor.ServiceIdGenerator;
+import br.com.cursoudemy.productapi.config.logging.LogContext;
+import br.com.cursoudemy.productapi.config.logging.LogPayloads;
 import br.com.cursoudemy.productapi.modules.product.dto.ProductStockDTO;
 import br.com.cursoudemy.productapi.modules.product.service.ProductService;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
+@ConditionalOnProperty(value = "app-config.rabbit.listener.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class ProductStockListener {
     private final ProductService productService;
-    private final ObjectMapper objectMapper;
+    private final LogPayloads logPayloads;
+    private final ProductStockMetrics productStockMetrics;
 
-    @RabbitListener(queues = "${app-config.rabbit.queue.product-stock}")
-    public void recieveProductStockMessage(ProductStockDTO productStockDTO) throws JsonProcessingException {
-        log.info("Receiving message with data: {} and transactionId: {}", this.objectMapper.writeValueAsString(productStockDTO), productStockDTO.getTransactionid());
-        this.productService.updateProductStock(productStockDTO);
+    @RabbitListener(queues = "${app-config.rabbit.queue.product-stock}", containerFactory = "productStockListenerContainerFactory")
+    public void recieveProductStockMessage(ProductStockDTO productStockDTO) {
+        var sample = this.productStockMetrics.start();
+        LogContext.put(productStockDTO.getTransactionid(), ServiceIdGenerator.next());
+        try {
+            log.info("Receiving message with data: {}", this.logPayloads.of(productStockDTO));
+            this.productStockMetrics.recordUpdate(sample, this.productService.updateProductStock(productStockDTO));
+        } finally {
+            LogContext.clear();
+        }
     }
 }
@@ -0,0 +1,64 @@
+package br.com.cursoudemy.productapi.modules.product.rabbitmq;
+
+import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
+import br.com.cursoudemy.productapi.modules.sales.enums.SalesStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class ProductStockMetrics {
+    private static final String UPDATE_METRIC = "product.stock.update", BATCH_METRIC = "product.stock.update.batch", SALES_METRIC = "product.stock.sales", OUTCOME_TAG = "outcome", STATUS_TAG = "status";
+    private final MeterRegistry meterRegistry;
+    private final Timer approvedUpdates, rejectedUpdates, duplicatedUpdates, approvedBatches, rejectedBatches, duplicatedBatches;
+    private final Counter approvedSales, rejectedSales, duplicatedSales;
+
+    public ProductStockMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.approvedUpdates = this.updateTimer(UPDATE_METRIC, "approved");
+        this.rejectedUpdates = this.updateTimer(UPDATE_METRIC, "rejected");
+        this.duplicatedUpdates = this.updateTimer(UPDATE_METRIC, "duplicated");
+        this.approvedBatches = this.updateTimer(BATCH_METRIC, "approved");
+        this.rejectedBatches = this.updateTimer(BATCH_METRIC, "rejected");
+        this.duplicatedBatches = this.updateTimer(BATCH_METRIC, "duplicated");
+        this.approvedSales = Counter.builder(SALES_METRIC).tag(STATUS_TAG, "approved").register(meterRegistry);
+        this.rejectedSales = Counter.builder(SALES_METRIC).tag(STATUS_TAG, "rejected").register(meterRegistry);
+        this.duplicatedSales = Counter.builder(SALES_METRIC).tag(STATUS_TAG, "duplicated").register(meterRegistry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(this.meterRegistry);
+    }
+
+    public void recordUpdate(Timer.Sample sample, Optional<SalesStatus> status) {
+        if (status.isEmpty()) {
+            sample.stop(this.duplicatedUpdates);
+            this.duplicatedSales.increment();
+            return;
+        }
+        sample.stop(status.get() == SalesStatus.APPROVED ? this.approvedUpdates : this.rejectedUpdates);
+        this.countSales(status.get());
+    }
+
+    public void recordBatch(Timer.Sample sample, Integer messages, List<SalesConfirmationDTO> confirmations) {
+        if (confirmations.isEmpty()) {
+            sample.stop(this.duplicatedBatches);
+        } else {
+            sample.stop(confirmations.stream().anyMatch(confirmation -> confirmation.getStatus() == SalesStatus.REJECTED) ? this.rejectedBatches : this.approvedBatches);
+        }
+        confirmations.forEach(confirmation -> this.countSales(confirmation.getStatus()));
+        this.duplicatedSales.increment(Math.max(messages - confirmations.size(), 0));
+    }
+
+    private void countSales(SalesStatus status) {
+        (status == SalesStatus.APPROVED ? this.approvedSales : this.rejectedSales).increment();
+    }
+
+    private Timer updateTimer(String name, String outcome) {
+        return Timer.builder(name).tag(OUTCOME_TAG, outcome).publishPercentileHistogram().register(this.meterRegistry);
+    }
+}
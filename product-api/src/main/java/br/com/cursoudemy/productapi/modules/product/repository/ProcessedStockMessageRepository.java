@@ -0,0 +1,21 @@
+package br.com.cursoudemy.productapi.modules.product.repository;
+
+import br.com.cursoudemy.productapi.modules.product.model.ProcessedStockMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ProcessedStockMessageRepository extends JpaRepository<ProcessedStockMessage, String> {
+    @Modifying
+    @Query(value = "INSERT INTO PROCESSED_STOCK_MESSAGE (MESSAGE_KEY, PROCESSED_AT) VALUES (:messageKey, :processedAt) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("messageKey") String messageKey, @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ProcessedStockMessage p where p.processedAt < :processedBefore")
+    int deleteProcessedBefore(@Param("processedBefore") LocalDateTime processedBefore);
+}
@@ -1,14 +1,47 @@
 package br.com.cursoudemy.productapi.modules.product.repository;
 
+import br.com.cursoudemy.productapi.config.PaginationUtil;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductView;
 import br.com.cursoudemy.productapi.modules.product.model.Product;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
-    List<Product> findByNameIgnoreCaseContaining(String name);
-    List<Product> findByCategoryId(Integer id);
-    List<Product> findBySupplierId(Integer id);
+    String PRODUCT_VIEW_QUERY = "SELECT new br.com.cursoudemy.productapi.modules.product.dto.ProductView(p.id, p.name, p.quantityAvailable, p.createdAt, s.id, s.name, c.id, c.description) FROM Product p JOIN p.supplier s JOIN p.category c";
+
     Boolean existsByCategoryId(Integer id);
     Boolean existsBySupplierId(Integer id);
+
+    @Query(PRODUCT_VIEW_QUERY + " ORDER BY p.id")
+    List<ProductView> findAllViews();
+
+    @Query(PRODUCT_VIEW_QUERY + " WHERE p.id IN :ids ORDER BY p.id")
+    List<ProductView> findViewsByIds(@Param("ids") Collection<Integer> ids);
+
+    @Query(PRODUCT_VIEW_QUERY + " WHERE p.id > :id ORDER BY p.id")
+    List<ProductView> findViewsAfter(@Param("id") Integer id, Limit limit);
+
+    @Query(PRODUCT_VIEW_QUERY + " WHERE UPPER(p.name) LIKE UPPER(CONCAT('%', :name, '%')) ESCAPE '!' ORDER BY p.id")
+    List<ProductView> findViewsByName(@Param("name") String name);
+
+    @Query(PRODUCT_VIEW_QUERY + " WHERE c.id = :categoryId ORDER BY p.id")
+    List<ProductView> findViewsByCategoryId(@Param("categoryId") Integer categoryId);
+
+    @Query(PRODUCT_VIEW_QUERY + " WHERE s.id = :supplierId ORDER BY p.id")
+    List<ProductView> findViewsBySupplierId(@Param("supplierId") Integer supplierId);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = PaginationUtil.STREAM_FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT p FROM Product p JOIN FETCH p.supplier JOIN FETCH p.category ORDER BY p.id")
+    Stream<Product> streamAll();
 }
@@ -0,0 +1,46 @@
+package br.com.cursoudemy.productapi.modules.product.repository;
+
+import br.com.cursoudemy.productapi.config.LikePatternUtil;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductSearchRepository {
+    private static final String SEARCH_BY_NAME = """
+            SELECT P.ID, P.NAME, P.QUANTITY_AVAILABLE, P.CREATED_AT, S.ID AS SUPPLIER_ID, S.NAME AS SUPPLIER_NAME, C.ID AS CATEGORY_ID, C.DESCRIPTION AS CATEGORY_DESCRIPTION
+            FROM PRODUCT P
+            JOIN SUPPLIER S ON S.ID = P.FK_SUPPLIER
+            JOIN CATEGORY C ON C.ID = P.FK_CATEGORY
+            WHERE UPPER(P.NAME) LIKE :pattern ESCAPE '!'
+            ORDER BY UPPER(P.NAME) LIKE :prefixPattern ESCAPE '!' DESC, SIMILARITY(UPPER(P.NAME), :term) DESC, P.ID
+            LIMIT :limit""";
+    private static final String WILDCARD = "%";
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public List<ProductView> searchByName(String name, boolean prefixOnly, int limit) {
+        var term = name.trim().toUpperCase();
+        var escapedTerm = LikePatternUtil.escape(term);
+        var prefixPattern = escapedTerm + WILDCARD;
+        var params = Map.<String, Object>of(
+                "term", term,
+                "pattern", prefixOnly ? prefixPattern : WILDCARD + prefixPattern,
+                "prefixPattern", prefixPattern,
+                "limit", limit);
+        return this.namedParameterJdbcTemplate.query(SEARCH_BY_NAME, params, (resultSet, rowNum) -> new ProductView(
+                resultSet.getInt("ID"),
+                resultSet.getString("NAME"),
+                resultSet.getInt("QUANTITY_AVAILABLE"),
+                resultSet.getObject("CREATED_AT", LocalDateTime.class),
+                resultSet.getInt("SUPPLIER_ID"),
+                resultSet.getString("SUPPLIER_NAME"),
+                resultSet.getInt("CATEGORY_ID"),
+                resultSet.getString("CATEGORY_DESCRIPTION")));
+    }
+}
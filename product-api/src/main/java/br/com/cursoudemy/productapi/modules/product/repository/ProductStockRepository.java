@@ -0,0 +1,40 @@
+package br.com.cursoudemy.productapi.modules.product.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockRepository {
+    private static final String SELECT_QUANTITIES = "SELECT ID, QUANTITY_AVAILABLE FROM PRODUCT WHERE ID IN (:ids)";
+    private static final String SELECT_FOR_UPDATE = "SELECT ID, QUANTITY_AVAILABLE FROM PRODUCT WHERE ID IN (:ids) ORDER BY ID FOR UPDATE";
+    private static final String DECREASE_STOCK = "UPDATE PRODUCT SET QUANTITY_AVAILABLE = QUANTITY_AVAILABLE - ?, VERSION = VERSION + 1 WHERE ID = ? AND QUANTITY_AVAILABLE >= ?";
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Map<Integer, Integer> findQuantities(Collection<Integer> ids) {
+        return this.queryQuantities(SELECT_QUANTITIES, ids);
+    }
+
+    public Map<Integer, Integer> findQuantitiesForUpdate(Collection<Integer> ids) {
+        return this.queryQuantities(SELECT_FOR_UPDATE, ids);
+    }
+
+    public int[] decreaseStock(Map<Integer, Integer> quantities) {
+        var batchArgs = quantities.entrySet().stream().map(entry -> new Object[]{entry.getValue(), entry.getKey(), entry.getValue()}).toList();
+        return this.namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(DECREASE_STOCK, batchArgs);
+    }
+
+    private Map<Integer, Integer> queryQuantities(String sql, Collection<Integer> ids) {
+        var quantities = new HashMap<Integer, Integer>();
+        this.namedParameterJdbcTemplate.query(sql, Map.of("ids", ids), resultSet -> {
+            quantities.put(resultSet.getInt("ID"), resultSet.getInt("QUANTITY_AVAILABLE"));
+        });
+        return quantities;
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.cursoudemy.productapi.modules.product.service;
+
+import br.com.cursoudemy.productapi.modules.product.dto.ProductStockDTO;
+import br.com.cursoudemy.productapi.modules.product.repository.ProcessedStockMessageRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Service
+@Slf4j
+public class ProcessedStockMessageService {
+    private static final String KEY_SEPARATOR = ":", METRIC_NAME = "product.stock.deduplication", RESULT_TAG = "result";
+    private final ProcessedStockMessageRepository processedStockMessageRepository;
+    private final Cache<String, Boolean> processedMessages;
+    private final Counter hits, misses;
+    private final Long retentionHours;
+
+    public ProcessedStockMessageService(ProcessedStockMessageRepository processedStockMessageRepository, MeterRegistry meterRegistry,
+                                        @Value("${app-config.stock.deduplication.cache-size}") Long cacheSize,
+                                        @Value("${app-config.stock.deduplication.cache-ttl-seconds}") Long cacheTtlSeconds,
+                                        @Value("${app-config.stock.deduplication.retention-hours}") Long retentionHours) {
+        this.processedStockMessageRepository = processedStockMessageRepository;
+        this.processedMessages = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds)).recordStats().build();
+        this.hits = Counter.builder(METRIC_NAME).tag(RESULT_TAG, "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME).tag(RESULT_TAG, "miss").register(meterRegistry);
+        this.retentionHours = retentionHours;
+        CaffeineCacheMetrics.monitor(meterRegistry, this.processedMessages, "processed-stock-messages");
+    }
+
+    public boolean isProcessed(ProductStockDTO productStockDTO) {
+        var messageKey = this.getMessageKey(productStockDTO);
+        if (isEmpty(messageKey)) {
+            return false;
+        }
+        if (this.processedMessages.getIfPresent(messageKey) != null) {
+            this.hits.increment();
+            return true;
+        }
+        this.misses.increment();
+        return false;
+    }
+
+    public boolean markProcessed(ProductStockDTO productStockDTO) {
+        var messageKey = this.getMessageKey(productStockDTO);
+        if (isEmpty(messageKey)) {
+            return true;
+        }
+        var inserted = this.processedStockMessageRepository.insertIfAbsent(messageKey, LocalDateTime.now()) > 0;
+        if (!inserted) {
+            log.info("Ignoring stock message already processed for sales {} and transactionId {}", productStockDTO.getSalesId(), productStockDTO.getTransactionid());
+        }
+        return inserted;
+    }
+
+    public void remember(ProductStockDTO productStockDTO) {
+        var messageKey = this.getMessageKey(productStockDTO);
+        if (!isEmpty(messageKey)) {
+            this.processedMessages.put(messageKey, Boolean.TRUE);
+        }
+    }
+
+    @Scheduled(cron = "${app-config.stock.deduplication.purge-cron}")
+    public void purgeExpired() {
+        var purged = this.processedStockMessageRepository.deleteProcessedBefore(LocalDateTime.now().minusHours(this.retentionHours));
+        log.info("Purged {} processed stock messages older than {} hours.", purged, this.retentionHours);
+    }
+
+    private String getMessageKey(ProductStockDTO productStockDTO) {
+        if (isEmpty(productStockDTO) || isEmpty(productStockDTO.getSalesId())) {
+            return null;
+        }
+        return productStockDTO.getSalesId() + KEY_SEPARATOR + productStockDTO.getTransactionid();
+    }
+}
@@ -1,26 +1,44 @@
 package br.com.cursoudemy.productapi.modules.product.service;
 
-import br.com.cursoudemy.productapi.config.RequestUtil;
+import br.com.cursoudemy.productapi.config.NdjsonExporter;
+import br.com.cursoudemy.productapi.config.LikePatternUtil;
+import br.com.cursoudemy.productapi.config.PaginationUtil;
+import br.com.cursoudemy.productapi.config.cache.CatalogCache;
+import br.com.cursoudemy.productapi.config.logging.LogContext;
 import br.com.cursoudemy.productapi.config.exception.SuccessResponse;
 import br.com.cursoudemy.productapi.config.exception.ValidationException;
 import br.com.cursoudemy.productapi.modules.category.service.CategoryService;
 import br.com.cursoudemy.productapi.modules.product.dto.*;
 import br.com.cursoudemy.productapi.modules.product.model.Product;
 import br.com.cursoudemy.productapi.modules.product.repository.ProductRepository;
-import br.com.cursoudemy.productapi.modules.sales.client.SalesClient;
+import br.com.cursoudemy.productapi.modules.product.repository.ProductSearchRepository;
+import br.com.cursoudemy.productapi.modules.product.repository.ProductStockRepository;
 import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
-import br.com.cursoudemy.productapi.modules.sales.dto.SalesProductResponse;
 import br.com.cursoudemy.productapi.modules.sales.enums.SalesStatus;
-import br.com.cursoudemy.productapi.modules.sales.rabbitmq.SalesConfirmationSender;
+import br.com.cursoudemy.productapi.modules.sales.service.SalesConfirmationService;
+import br.com.cursoudemy.productapi.modules.sales.service.SalesProductService;
 import br.com.cursoudemy.productapi.modules.supplier.service.SupplierService;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
@@ -29,14 +47,19 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 @Slf4j
 @AllArgsConstructor
 public class ProductService {
-    private static final Integer ZERO = 0;
-    private static final String TRANSACTION_ID = "transactionid", SERVICE_ID = "serviceid", AUTHORIZATION = "Authorization";
+    private static final Integer ZERO = 0, MAX_RESERVATION_ATTEMPTS = 3, MAX_SALES_LOOKUP_PRODUCTS = 100;
     private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+    private final ProductSearchRepository productSearchRepository;
+    private final StockReservationService stockReservationService;
+    private final ProcessedStockMessageService processedStockMessageService;
     private final SupplierService supplierService;
     private final CategoryService categoryService;
-    private final SalesConfirmationSender salesConfirmationSender;
-    private final SalesClient salesClient;
-    private final ObjectMapper objectMapper;
+    private final SalesConfirmationService salesConfirmationService;
+    private final TransactionTemplate transactionTemplate;
+    private final SalesProductService salesProductService;
+    private final CatalogCache catalogCache;
+    private final NdjsonExporter ndjsonExporter;
 
     public ProductResponse save(ProductRequest productRequest) {
         this.validateProductDataInformed(productRequest);
@@ -44,6 +67,7 @@ public class ProductService {
         var category = this.categoryService.findById(productRequest.getCategoryId());
         var supplier = this.supplierService.findById(productRequest.getSupplierId());
         var product = this.productRepository.save(Product.of(productRequest, supplier, category));
+        this.catalogCache.evictProduct(product.getId(), product.getVersion());
         return ProductResponse.of(product);
     }
 
@@ -53,10 +77,15 @@ public class ProductService {
         this.validateCategoryAndSupplierIdInformed(productRequest);
         var category = this.categoryService.findById(productRequest.getCategoryId());
         var supplier = this.supplierService.findById(productRequest.getSupplierId());
-        var product = Product.of(productRequest, supplier, category);
-        product.setId(id);
-        this.productRepository.save(product);
-        return ProductResponse.of(product);
+        var product = this.findById(id);
+        product.update(productRequest, supplier, category);
+        try {
+            var updatedProduct = this.productRepository.save(product);
+            this.catalogCache.evictProduct(id, updatedProduct.getVersion());
+            return ProductResponse.of(updatedProduct);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ValidationException("The product was changed by another operation. Try again.");
+        }
     }
 
     private void validateProductDataInformed(ProductRequest productRequest) {
@@ -80,31 +109,51 @@ public class ProductService {
         }
     }
 
+    @Cacheable(cacheNames = CatalogCache.PRODUCT_LISTS, key = "'all'")
     public List<ProductResponse> findAll() {
-        return this.productRepository.findAll().stream().map(ProductResponse::of).collect(Collectors.toList());
+        return this.productRepository.findAllViews().stream().map(ProductResponse::of).collect(Collectors.toList());
+    }
+
+    public List<ProductResponse> findAll(Integer after, Integer limit) {
+        return this.productRepository.findViewsAfter(PaginationUtil.getCursor(after), PaginationUtil.getLimit(limit)).stream().map(ProductResponse::of).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream outputStream) throws IOException {
+        this.ndjsonExporter.export(this.productRepository.streamAll(), ProductResponse::of, outputStream);
     }
 
     public List<ProductResponse> findByName(String name) {
         if (isEmpty(name)) {
             throw new ValidationException("The product name must be informed.");
         }
-        return this.productRepository.findByNameIgnoreCaseContaining(name).stream().map(ProductResponse::of).collect(Collectors.toList());
+        return this.productRepository.findViewsByName(LikePatternUtil.escape(name)).stream().map(ProductResponse::of).collect(Collectors.toList());
+    }
+
+    public List<ProductResponse> search(String name, Integer limit, Boolean prefixOnly) {
+        if (isEmpty(name) || name.isBlank()) {
+            throw new ValidationException("The product name must be informed.");
+        }
+        return this.productSearchRepository.searchByName(name, Boolean.TRUE.equals(prefixOnly), PaginationUtil.getLimit(limit).max()).stream().map(ProductResponse::of).collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CatalogCache.PRODUCT_LISTS, key = "'supplier:' + #supplierId")
     public List<ProductResponse> findBySupplierId(Integer supplierId) {
         if (isEmpty(supplierId)) {
             throw new ValidationException("The product's supplier ID must be informed.");
         }
-        return this.productRepository.findBySupplierId(supplierId).stream().map(ProductResponse::of).collect(Collectors.toList());
+        return this.productRepository.findViewsBySupplierId(supplierId).stream().map(ProductResponse::of).collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CatalogCache.PRODUCT_LISTS, key = "'category:' + #categoryId")
     public List<ProductResponse> findByCategoryId(Integer categoryId) {
         if (isEmpty(categoryId)) {
             throw new ValidationException("The product's category ID must be informed.");
         }
-        return this.productRepository.findByCategoryId(categoryId).stream().map(ProductResponse::of).collect(Collectors.toList());
+        return this.productRepository.findViewsByCategoryId(categoryId).stream().map(ProductResponse::of).collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CatalogCache.PRODUCTS, key = "#id")
     public ProductResponse findByIdResponse(Integer id) {
         return ProductResponse.of(this.findById(id));
     }
@@ -127,11 +176,11 @@ public class ProductService {
         if (!this.productRepository.existsById(id)) {
             throw new ValidationException("The product does not exists.");
         }
-        var sales = this.getSalesByProductId(id);
-        if (!isEmpty(sales.getSalesIds())) {
+        if (this.hasSales(id)) {
             throw new ValidationException("The product cannot be deleted. There are sales for it.");
         }
         this.productRepository.deleteById(id);
+        this.catalogCache.evictProduct(id, null);
         return SuccessResponse.create("The product was deleted.");
     }
 
@@ -141,18 +190,36 @@ public class ProductService {
         }
     }
 
-    public void updateProductStock(ProductStockDTO productStockDTO) {
+    public Optional<SalesStatus> updateProductStock(ProductStockDTO productStockDTO) {
+        if (this.processedStockMessageService.isProcessed(productStockDTO)) {
+            log.info("Ignoring duplicated stock message for sales {} and transactionId {}", productStockDTO.getSalesId(), productStockDTO.getTransactionid());
+            return Optional.empty();
+        }
+        Optional<SalesStatus> status;
         try {
             this.validateStockUpdateData(productStockDTO);
-            this.updateStock(productStockDTO);
+            status = this.updateStock(productStockDTO) ? Optional.of(SalesStatus.APPROVED) : Optional.empty();
         } catch (Exception e) {
             log.error("Error while trying to update stock for message with error: {}", e.getMessage(), e);
-            var rejectedMessage = new SalesConfirmationDTO(productStockDTO.getSalesId(), SalesStatus.REJECTED, productStockDTO.getTransactionid());
-            this.salesConfirmationSender.sendSalesConfirmationMessage(rejectedMessage);
+            status = isEmpty(this.rejectProductStocks(List.of(productStockDTO))) ? Optional.empty() : Optional.of(SalesStatus.REJECTED);
         }
+        this.processedStockMessageService.remember(productStockDTO);
+        this.catalogCache.evictProductSales(this.getProductIds(List.of(productStockDTO)));
+        return status;
+    }
+
+    private List<SalesConfirmationDTO> rejectProductStocks(List<ProductStockDTO> productStockDTOs) {
+        return this.transactionTemplate.execute(status -> {
+            var rejections = productStockDTOs.stream()
+                    .filter(Objects::nonNull)
+                    .filter(this.processedStockMessageService::markProcessed)
+                    .map(productStockDTO -> new SalesConfirmationDTO(productStockDTO.getSalesId(), SalesStatus.REJECTED, productStockDTO.getTransactionid()))
+                    .toList();
+            this.salesConfirmationService.confirm(rejections);
+            return rejections;
+        });
     }
 
-    @Transactional
     private void validateStockUpdateData(ProductStockDTO productStockDTO) {
         if (isEmpty(productStockDTO) || isEmpty(productStockDTO.getSalesId())) {
             throw new ValidationException("The product data and the sales ID must be informed.");
@@ -164,78 +231,154 @@ public class ProductService {
             if (isEmpty(salesProduct.getQuantity()) || isEmpty(salesProduct.getProductId())) {
                 throw new ValidationException("The productID and the quantity must be informed.");
             }
+            if (salesProduct.getQuantity() <= ZERO) {
+                throw new ValidationException("The quantity must be greater than zero.");
+            }
         });
     }
 
-    @Transactional
-    private void updateStock(ProductStockDTO productStockDTO) {
-        var productsForUpdate = new ArrayList<Product>();
-        productStockDTO.getProducts().forEach(salesProduct -> {
-            var existingProduct = this.findById(salesProduct.getProductId());
-            this.validateQuantityInStock(salesProduct, existingProduct);
-            existingProduct.updateStock(salesProduct.getQuantity());
-            productsForUpdate.add(existingProduct);
+    private boolean updateStock(ProductStockDTO productStockDTO) {
+        var approvedMessage = new SalesConfirmationDTO(productStockDTO.getSalesId(), SalesStatus.APPROVED, productStockDTO.getTransactionid());
+        var reserved = this.withReservationRetry(productStockDTO.getSalesId(), () -> this.transactionTemplate.execute(status -> {
+            if (!this.processedStockMessageService.markProcessed(productStockDTO)) {
+                return false;
+            }
+            this.stockReservationService.reserve(productStockDTO.getProducts());
+            this.salesConfirmationService.confirm(List.of(approvedMessage));
+            return true;
+        }));
+        if (Boolean.TRUE.equals(reserved)) {
+            this.catalogCache.evictProducts(this.getProductIds(List.of(productStockDTO)));
+        }
+        return Boolean.TRUE.equals(reserved);
+    }
+
+    public List<SalesConfirmationDTO> updateProductsStock(List<ProductStockDTO> productStockDTOs) {
+        var confirmations = new ArrayList<SalesConfirmationDTO>();
+        var invalidProductStocks = new ArrayList<ProductStockDTO>();
+        var validProductStocks = new ArrayList<ProductStockDTO>();
+        var productStocks = productStockDTOs.stream().filter(productStockDTO -> !this.processedStockMessageService.isProcessed(productStockDTO)).toList();
+        productStocks.forEach(productStockDTO -> {
+            LogContext.put(productStockDTO.getTransactionid(), null);
+            try {
+                this.validateStockUpdateData(productStockDTO);
+                validProductStocks.add(productStockDTO);
+            } catch (ValidationException e) {
+                log.error("Error while trying to update stock for message with error: {}", e.getMessage());
+                invalidProductStocks.add(productStockDTO);
+            } finally {
+                LogContext.clearTransactionId();
+            }
         });
-        if (!isEmpty(productsForUpdate)) {
-            this.productRepository.saveAll(productsForUpdate);
-            var approvedMessage = new SalesConfirmationDTO(productStockDTO.getSalesId(), SalesStatus.APPROVED, productStockDTO.getTransactionid());
-            this.salesConfirmationSender.sendSalesConfirmationMessage(approvedMessage);
+        if (!isEmpty(validProductStocks)) {
+            try {
+                confirmations.addAll(this.withReservationRetry(String.format("batch of %s sales", validProductStocks.size()), () -> this.transactionTemplate.execute(status -> {
+                    var newProductStocks = validProductStocks.stream().filter(this.processedStockMessageService::markProcessed).toList();
+                    var reservations = isEmpty(newProductStocks) ? List.<SalesConfirmationDTO>of() : this.stockReservationService.reserveAll(newProductStocks);
+                    this.salesConfirmationService.confirm(reservations);
+                    return reservations;
+                })));
+                this.catalogCache.evictProducts(this.getProductIds(validProductStocks));
+            } catch (Exception e) {
+                log.error("Error while trying to update stock for batch with error: {}", e.getMessage(), e);
+                invalidProductStocks.addAll(validProductStocks);
+            }
+        }
+        if (!isEmpty(invalidProductStocks)) {
+            confirmations.addAll(this.rejectProductStocks(invalidProductStocks));
         }
+        productStocks.forEach(this.processedStockMessageService::remember);
+        this.catalogCache.evictProductSales(this.getProductIds(productStocks));
+        return confirmations;
+    }
+
+    private Set<Integer> getProductIds(List<ProductStockDTO> productStockDTOs) {
+        return productStockDTOs.stream().filter(productStockDTO -> !isEmpty(productStockDTO) && !isEmpty(productStockDTO.getProducts())).flatMap(productStockDTO -> productStockDTO.getProducts().stream()).filter(Objects::nonNull).map(ProductQuantityDTO::getProductId).filter(Objects::nonNull).collect(Collectors.toSet());
     }
 
-    private void validateQuantityInStock(ProductQuantityDTO productQuantityDTO, Product product) {
-        if (productQuantityDTO.getQuantity() > product.getQuantityAvailable()) {
-            throw new ValidationException(String.format("The product %s is out of stock.", product.getId()));
+    private <T> T withReservationRetry(String salesReference, Supplier<T> reservation) {
+        for (var attempt = 1; ; attempt++) {
+            try {
+                return reservation.get();
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_RESERVATION_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("Concurrent stock update for sales {}, retrying attempt {} of {}", salesReference, attempt + 1, MAX_RESERVATION_ATTEMPTS);
+            }
         }
     }
 
     public ProductSalesResponse findProductSales(Integer id) {
         var product = this.findById(id);
-        var sales = this.getSalesByProductId(id);
-        return ProductSalesResponse.of(product, sales.getSalesIds());
+        return ProductSalesResponse.of(product, this.getSalesByProductId(id));
+    }
+
+    public List<ProductSalesResponse> findProductsSales(List<Integer> ids) {
+        if (isEmpty(ids) || ids.stream().anyMatch(Objects::isNull)) {
+            throw new ValidationException("The products IDs must be informed.");
+        }
+        var productIds = new TreeSet<>(ids);
+        if (productIds.size() > MAX_SALES_LOOKUP_PRODUCTS) {
+            throw new ValidationException(String.format("The sales can be searched for up to %s products at a time.", MAX_SALES_LOOKUP_PRODUCTS));
+        }
+        var products = this.productRepository.findViewsByIds(productIds);
+        if (products.size() != productIds.size()) {
+            throw new ValidationException("There's no product for the given ID.");
+        }
+        var sales = this.getSalesByProductIds(productIds);
+        return products.stream().map(product -> ProductSalesResponse.of(product, sales.get(product.getId()))).toList();
+    }
+
+    private boolean hasSales(Integer productId) {
+        return this.callSalesApi(() -> this.salesProductService.hasSales(productId));
     }
 
-    private SalesProductResponse getSalesByProductId(Integer productId) {
+    private List<String> getSalesByProductId(Integer productId) {
+        return this.callSalesApi(() -> this.salesProductService.findSalesIdsByProductId(productId));
+    }
+
+    private Map<Integer, List<String>> getSalesByProductIds(Collection<Integer> productIds) {
+        return this.callSalesApi(() -> this.salesProductService.findSalesIdsByProductIds(productIds));
+    }
+
+    private <T> T callSalesApi(Supplier<T> salesApiCall) {
         try {
-            var currentRequest = RequestUtil.getCurrentRequest();
-            var transactionId = currentRequest.getHeader(TRANSACTION_ID);
-            var serviceId = currentRequest.getAttribute(SERVICE_ID);
-            var token = currentRequest.getHeader(AUTHORIZATION);
-            log.info("Sending GET request to orders by productId with data {} | [transactionId: {} | serviceId: {}]", productId, transactionId, serviceId);
-            var response = this.salesClient.findSalesByProductId(productId, token, transactionId).orElseThrow(() -> new ValidationException("The sales was not found by this product."));
-            log.info("Receiving response from orders by productId with data {} | [transactionId: {} | serviceId: {}]", this.objectMapper.writeValueAsString(response), transactionId, serviceId);
-            return response;
+            return salesApiCall.get();
         } catch (Exception e) {
             log.error("Error trying to call Sales-API: {}", e.getMessage());
             throw new ValidationException("The sales could not be found.");
         }
     }
 
-    public SuccessResponse checkProductsStock(ProductCheckStockRequest productCheckStockRequest) {
-        try {
-            var currentRequest = RequestUtil.getCurrentRequest();
-            var transactionId = currentRequest.getHeader(TRANSACTION_ID);
-            var serviceId = currentRequest.getAttribute(SERVICE_ID);
-            log.info("Request to POST product stock with data {} | [transactionId: {} | serviceId: {}]", this.objectMapper.writeValueAsString(productCheckStockRequest), transactionId, serviceId);
-            if (isEmpty(productCheckStockRequest) || isEmpty(productCheckStockRequest.getProducts())) {
-                throw new ValidationException("The request data must be informed.");
-            }
-            productCheckStockRequest.getProducts().forEach(this::validateStock);
-            var response = SuccessResponse.create("The stock is ok!");
-            log.info("Response to POST product stock with data {} | [transactionId: {} | serviceId: {}]", this.objectMapper.writeValueAsString(response), transactionId, serviceId);
-            return response;
-        } catch (Exception e) {
-            throw new ValidationException(e.getMessage());
+    public ProductStockCheckResponse checkProductsStock(ProductCheckStockRequest productCheckStockRequest) {
+        if (isEmpty(productCheckStockRequest) || isEmpty(productCheckStockRequest.getProducts())) {
+            throw new ValidationException("The request data must be informed.");
         }
+        log.info("Request to POST product stock with {} products", productCheckStockRequest.getProducts().size());
+        var requestedQuantities = new LinkedHashMap<Integer, Integer>();
+        productCheckStockRequest.getProducts().forEach(productQuantityDTO -> {
+            if (isEmpty(productQuantityDTO.getProductId()) || isEmpty(productQuantityDTO.getQuantity())) {
+                throw new ValidationException("Product ID and quantity must be informed.");
+            }
+            if (productQuantityDTO.getQuantity() <= ZERO) {
+                throw new ValidationException("The quantity must be greater than zero.");
+            }
+            requestedQuantities.merge(productQuantityDTO.getProductId(), productQuantityDTO.getQuantity(), Integer::sum);
+        });
+        var availableQuantities = this.productStockRepository.findQuantities(requestedQuantities.keySet());
+        var products = requestedQuantities.entrySet().stream().map(requested -> this.checkStock(requested.getKey(), requested.getValue(), availableQuantities.get(requested.getKey()))).toList();
+        var response = ProductStockCheckResponse.of(products);
+        log.info("Response to POST product stock with status {}", response.getStatus());
+        return response;
     }
 
-    private void validateStock(ProductQuantityDTO productQuantityDTO) {
-        if (isEmpty(productQuantityDTO.getProductId()) || isEmpty(productQuantityDTO.getQuantity())) {
-            throw new ValidationException("Product ID and quantity must be informed.");
-        }
-        var product = this.findById(productQuantityDTO.getProductId());
-        if (productQuantityDTO.getQuantity() > product.getQuantityAvailable()) {
-            throw new ValidationException(String.format("The product %s is out of stock.", product.getId()));
+    private ProductStockCheckItemResponse checkStock(Integer productId, Integer requested, Integer available) {
+        var item = ProductStockCheckItemResponse.builder().productId(productId).requested(requested).available(isEmpty(available) ? ZERO : available);
+        if (isEmpty(available)) {
+            return item.found(false).shortfall(requested).message("There's no product for the given ID.").build();
         }
+        var shortfall = Math.max(ZERO, requested - available);
+        return item.found(true).shortfall(shortfall).message(shortfall > ZERO ? String.format("The product %s is out of stock.", productId) : null).build();
     }
 }
@@ -0,0 +1,82 @@
+package br.com.cursoudemy.productapi.modules.product.service;
+
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductQuantityDTO;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductStockDTO;
+import br.com.cursoudemy.productapi.modules.product.repository.ProductStockRepository;
+import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
+import br.com.cursoudemy.productapi.modules.sales.enums.SalesStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+    private static final int UPDATED = 1;
+    private final ProductStockRepository productStockRepository;
+
+    @Transactional
+    public void reserve(List<ProductQuantityDTO> products) {
+        var requestedQuantities = this.mergeQuantities(products);
+        var availableQuantities = this.productStockRepository.findQuantitiesForUpdate(requestedQuantities.keySet());
+        requestedQuantities.forEach((productId, quantity) -> this.validateQuantityInStock(productId, quantity, availableQuantities));
+        this.decreaseStock(requestedQuantities);
+    }
+
+    @Transactional
+    public List<SalesConfirmationDTO> reserveAll(List<ProductStockDTO> productStockDTOs) {
+        var productIds = productStockDTOs.stream().flatMap(productStockDTO -> productStockDTO.getProducts().stream()).map(ProductQuantityDTO::getProductId).collect(Collectors.toCollection(TreeSet::new));
+        var availableQuantities = this.productStockRepository.findQuantitiesForUpdate(productIds);
+        var reservedQuantities = new TreeMap<Integer, Integer>();
+        var confirmations = new ArrayList<SalesConfirmationDTO>();
+        productStockDTOs.forEach(productStockDTO -> {
+            var requestedQuantities = this.mergeQuantities(productStockDTO.getProducts());
+            var status = this.isInStock(requestedQuantities, availableQuantities) ? SalesStatus.APPROVED : SalesStatus.REJECTED;
+            if (status == SalesStatus.APPROVED) {
+                requestedQuantities.forEach((productId, quantity) -> {
+                    availableQuantities.merge(productId, -quantity, Integer::sum);
+                    reservedQuantities.merge(productId, quantity, Integer::sum);
+                });
+            }
+            confirmations.add(new SalesConfirmationDTO(productStockDTO.getSalesId(), status, productStockDTO.getTransactionid()));
+        });
+        if (!reservedQuantities.isEmpty()) {
+            this.decreaseStock(reservedQuantities);
+        }
+        return confirmations;
+    }
+
+    private Map<Integer, Integer> mergeQuantities(List<ProductQuantityDTO> products) {
+        return products.stream().collect(Collectors.toMap(ProductQuantityDTO::getProductId, ProductQuantityDTO::getQuantity, Integer::sum, TreeMap::new));
+    }
+
+    private void validateQuantityInStock(Integer productId, Integer quantity, Map<Integer, Integer> availableQuantities) {
+        if (!availableQuantities.containsKey(productId)) {
+            throw new ValidationException("There's no product for the given ID.");
+        }
+        if (quantity > availableQuantities.get(productId)) {
+            throw new ValidationException(String.format("The product %s is out of stock.", productId));
+        }
+    }
+
+    private boolean isInStock(Map<Integer, Integer> requestedQuantities, Map<Integer, Integer> availableQuantities) {
+        return requestedQuantities.entrySet().stream().allMatch(requested -> availableQuantities.containsKey(requested.getKey()) && requested.getValue() <= availableQuantities.get(requested.getKey()));
+    }
+
+    private void decreaseStock(Map<Integer, Integer> quantities) {
+        var updatedRows = this.productStockRepository.decreaseStock(quantities);
+        for (var updated : updatedRows) {
+            if (updated != UPDATED) {
+                throw new ValidationException("The stock could not be updated for all the products.");
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Mono;
 
 import java.util.Optional;
 
@@ -12,4 +13,7 @@ import java.util.Optional;
 public interface SalesClient {
     @GetExchange("/product/{productId}")
     Optional<SalesProductResponse> findSalesByProductId(@PathVariable Integer productId, @RequestHeader(name = "Authorization") String authorization, @RequestHeader(name = "transactionId") String transactionId);
+
+    @GetExchange("/product/{productId}")
+    Mono<SalesProductResponse> findSalesByProductIdAsync(@PathVariable Integer productId, @RequestHeader(name = "Authorization") String authorization, @RequestHeader(name = "transactionId") String transactionId);
 }
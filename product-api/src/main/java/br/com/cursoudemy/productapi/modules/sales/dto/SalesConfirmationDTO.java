@@ -1,6 +1,7 @@
 package br.com.cursoudemy.productapi.modules.sales.dto;
 
 import br.com.cursoudemy.productapi.modules.sales.enums.SalesStatus;
+import br.com.cursoudemy.productapi.modules.sales.model.SalesConfirmationOutbox;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -12,4 +13,8 @@ public class SalesConfirmationDTO {
     private String salesId;
     private SalesStatus status;
     private String transactionid;
+
+    public static SalesConfirmationDTO of(SalesConfirmationOutbox salesConfirmationOutbox) {
+        return new SalesConfirmationDTO(salesConfirmationOutbox.getSalesId(), salesConfirmationOutbox.getStatus(), salesConfirmationOutbox.getTransactionid());
+    }
 }
@@ -0,0 +1,44 @@
+package br.com.cursoudemy.productapi.modules.sales.model;
+
+import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
+import br.com.cursoudemy.productapi.modules.sales.enums.SalesStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "SALES_CONFIRMATION_OUTBOX")
+@Builder
+public class SalesConfirmationOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_confirmation_outbox_sequence")
+    @SequenceGenerator(name = "sales_confirmation_outbox_sequence", sequenceName = "SALES_CONFIRMATION_OUTBOX_SEQUENCE", allocationSize = 50)
+    private Long id;
+    @Column(name = "SALES_ID", nullable = false)
+    private String salesId;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", nullable = false)
+    private SalesStatus status;
+    @Column(name = "TRANSACTION_ID")
+    private String transactionid;
+    @Column(name = "CREATED_AT", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    @Column(name = "LEASED_UNTIL")
+    private LocalDateTime leasedUntil;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static SalesConfirmationOutbox of(SalesConfirmationDTO salesConfirmationDTO) {
+        return SalesConfirmationOutbox.builder().salesId(salesConfirmationDTO.getSalesId()).status(salesConfirmationDTO.getStatus()).transactionid(salesConfirmationDTO.getTransactionid()).build();
+    }
+}
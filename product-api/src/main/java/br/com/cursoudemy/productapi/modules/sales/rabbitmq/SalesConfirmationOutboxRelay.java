@@ -0,0 +1,105 @@
+package br.com.cursoudemy.productapi.modules.sales.rabbitmq;
+
+import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
+import br.com.cursoudemy.productapi.modules.sales.model.SalesConfirmationOutbox;
+import br.com.cursoudemy.productapi.modules.sales.repository.SalesConfirmationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "app-config.outbox.enabled", havingValue = "true")
+public class SalesConfirmationOutboxRelay {
+    private final SalesConfirmationOutboxRepository salesConfirmationOutboxRepository;
+    private final SalesConfirmationSender salesConfirmationSender;
+    private final TransactionTemplate transactionTemplate;
+    @Value("${app-config.outbox.batch-size}")
+    private Integer batchSize;
+    @Value("${app-config.outbox.confirm-timeout}")
+    private Long confirmTimeout;
+    @Value("${app-config.outbox.lease-time}")
+    private Long leaseTime;
+    @Value("${app-config.outbox.max-batches-per-run}")
+    private Integer maxBatchesPerRun;
+
+    @Scheduled(fixedDelayString = "${app-config.outbox.poll-interval}")
+    public void relay() {
+        var hasMore = true;
+        for (var batches = 0; hasMore && batches < this.maxBatchesPerRun; batches++) {
+            hasMore = this.relayBatch();
+        }
+    }
+
+    private boolean relayBatch() {
+        var pendingConfirmations = this.transactionTemplate.execute(status -> this.claimBatch());
+        if (isEmpty(pendingConfirmations)) {
+            return false;
+        }
+        var confirmations = pendingConfirmations.stream().map(this::publish).toList();
+        var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.confirmTimeout);
+        var deliveredIds = new ArrayList<Long>();
+        var failedIds = new ArrayList<Long>();
+        for (var index = 0; index < pendingConfirmations.size(); index++) {
+            var pendingConfirmation = pendingConfirmations.get(index);
+            if (this.isConfirmed(confirmations.get(index), pendingConfirmation, deadline)) {
+                deliveredIds.add(pendingConfirmation.getId());
+            } else {
+                failedIds.add(pendingConfirmation.getId());
+            }
+        }
+        this.transactionTemplate.executeWithoutResult(status -> {
+            if (!deliveredIds.isEmpty()) {
+                this.salesConfirmationOutboxRepository.deleteAllByIdInBatch(deliveredIds);
+            }
+            if (!failedIds.isEmpty()) {
+                this.salesConfirmationOutboxRepository.updateLease(failedIds, null);
+            }
+        });
+        log.info("Relayed {} of {} sales confirmations from the outbox.", deliveredIds.size(), pendingConfirmations.size());
+        return deliveredIds.size() == this.batchSize;
+    }
+
+    private List<SalesConfirmationOutbox> claimBatch() {
+        var now = LocalDateTime.now();
+        var pendingConfirmations = this.salesConfirmationOutboxRepository.findClaimableForUpdate(now, this.batchSize);
+        if (!pendingConfirmations.isEmpty()) {
+            this.salesConfirmationOutboxRepository.updateLease(pendingConfirmations.stream().map(SalesConfirmationOutbox::getId).toList(), now.plus(Duration.ofMillis(this.leaseTime)));
+        }
+        return pendingConfirmations;
+    }
+
+    private CompletableFuture<Boolean> publish(SalesConfirmationOutbox salesConfirmationOutbox) {
+        try {
+            return this.salesConfirmationSender.publish(SalesConfirmationDTO.of(salesConfirmationOutbox));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean isConfirmed(CompletableFuture<Boolean> confirmation, SalesConfirmationOutbox salesConfirmationOutbox, long deadline) {
+        try {
+            return Boolean.TRUE.equals(confirmation.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("Sales confirmation for sales {} was not confirmed and will be retried: {}", salesConfirmationOutbox.getSalesId(), e.getMessage());
+            return false;
+        }
+    }
+}
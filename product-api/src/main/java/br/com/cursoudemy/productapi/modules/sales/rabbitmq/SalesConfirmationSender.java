@@ -1,31 +1,220 @@
 package br.com.cursoudemy.productapi.modules.sales.rabbitmq;
 
 import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class SalesConfirmationSender {
+    private static final Integer FIRST_ATTEMPT = 1, MAX_BACKOFF_SHIFT = 20;
+    private static final long NOT_DELAYED = 0L, SHUTDOWN_POLL_INTERVAL = 10L;
+    private static final String PUBLISH_METRIC = "sales.confirmation.publish", FAILURE_METRIC = "sales.confirmation.failures", OUTCOME_TAG = "outcome", REASON_TAG = "reason";
     private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong correlationSequence = new AtomicLong();
+    private final Map<Object, PendingConfirmation> unconfirmed = new ConcurrentHashMap<>();
     @Value("${app-config.rabbit.exchange.product}")
     private String productTopicExchange;
     @Value("${app-config.rabbit.routingKey.sales-confirmation}")
     private String salesConfirmationKey;
+    @Value("${app-config.rabbit.sender.buffer-capacity}")
+    private Integer bufferCapacity;
+    @Value("${app-config.rabbit.sender.batch-size}")
+    private Integer batchSize;
+    @Value("${app-config.rabbit.sender.max-attempts}")
+    private Integer maxAttempts;
+    @Value("${app-config.rabbit.sender.retry-backoff}")
+    private Long retryBackoff;
+    @Value("${app-config.rabbit.sender.max-retry-backoff}")
+    private Long maxRetryBackoff;
+    @Value("${app-config.rabbit.sender.confirm-timeout}")
+    private Long confirmTimeout;
+    private BlockingQueue<PendingConfirmation> buffer;
+    private Timer acknowledgedPublishes, rejectedPublishes, failedPublishes;
+    private Counter retriedDeliveries, exhaustedDeliveries, droppedDeliveries, abandonedDeliveries;
+    private volatile boolean shuttingDown;
+
+    @PostConstruct
+    public void init() {
+        this.buffer = new ArrayBlockingQueue<>(this.bufferCapacity);
+        this.acknowledgedPublishes = this.publishTimer("ack");
+        this.rejectedPublishes = this.publishTimer("nack");
+        this.failedPublishes = this.publishTimer("error");
+        this.retriedDeliveries = Counter.builder(FAILURE_METRIC).tag(REASON_TAG, "retried").register(this.meterRegistry);
+        this.exhaustedDeliveries = Counter.builder(FAILURE_METRIC).tag(REASON_TAG, "exhausted").register(this.meterRegistry);
+        this.droppedDeliveries = Counter.builder(FAILURE_METRIC).tag(REASON_TAG, "dropped").register(this.meterRegistry);
+        this.abandonedDeliveries = Counter.builder(FAILURE_METRIC).tag(REASON_TAG, "shutdown").register(this.meterRegistry);
+        Gauge.builder("sales.confirmation.buffer.size", this.buffer, BlockingQueue::size).register(this.meterRegistry);
+    }
 
     public void sendSalesConfirmationMessage(SalesConfirmationDTO salesConfirmationDTO) {
+        var pendingConfirmation = new PendingConfirmation(salesConfirmationDTO, FIRST_ATTEMPT, NOT_DELAYED);
+        if (this.shuttingDown) {
+            this.publishAndWait(pendingConfirmation);
+        } else if (!this.buffer.offer(pendingConfirmation)) {
+            log.warn("The sales confirmation buffer is full, sending message for sales {} on the caller thread and waiting for the broker confirm.", salesConfirmationDTO.getSalesId());
+            this.publishAndWait(pendingConfirmation);
+        }
+    }
+
+    public void sendSalesConfirmationMessages(List<SalesConfirmationDTO> salesConfirmationDTOs) {
+        salesConfirmationDTOs.forEach(this::sendSalesConfirmationMessage);
+    }
+
+    public CompletableFuture<Boolean> publish(SalesConfirmationDTO salesConfirmationDTO) {
+        var sample = Timer.start(this.meterRegistry);
+        var correlationData = new CorrelationData(salesConfirmationDTO.getSalesId() + "-" + this.correlationSequence.incrementAndGet());
+        try {
+            this.rabbitTemplate.convertAndSend(this.productTopicExchange, this.salesConfirmationKey, salesConfirmationDTO, correlationData);
+        } catch (RuntimeException e) {
+            sample.stop(this.failedPublishes);
+            throw e;
+        }
+        return correlationData.getFuture().thenApply(confirm -> confirm.isAck() && correlationData.getReturned() == null)
+                .whenComplete((confirmed, error) -> sample.stop(error != null ? this.failedPublishes : confirmed ? this.acknowledgedPublishes : this.rejectedPublishes));
+    }
+
+    @Scheduled(fixedDelayString = "${app-config.rabbit.sender.flush-interval}")
+    public void flush() {
+        var batch = new ArrayList<PendingConfirmation>(this.batchSize);
+        while (this.buffer.drainTo(batch, this.batchSize) > 0) {
+            var now = System.currentTimeMillis();
+            var published = 0;
+            for (var pendingConfirmation : batch) {
+                if (pendingConfirmation.notBefore() > now) {
+                    this.requeue(pendingConfirmation);
+                } else {
+                    this.publishPending(pendingConfirmation);
+                    published++;
+                }
+            }
+            log.debug("Sent {} of {} drained sales confirmation messages.", published, batch.size());
+            batch.clear();
+            if (published == 0) {
+                break;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.shuttingDown = true;
+        var pendingConfirmations = new ArrayList<PendingConfirmation>();
+        this.buffer.drainTo(pendingConfirmations);
+        log.info("Sending {} buffered sales confirmation messages before shutdown.", pendingConfirmations.size());
+        pendingConfirmations.forEach(this::publishPending);
+        var deadline = System.currentTimeMillis() + this.confirmTimeout;
         try {
-            log.info("Sending message: {}", this.objectMapper.writeValueAsString(salesConfirmationDTO));
-            this.rabbitTemplate.convertAndSend(this.productTopicExchange, this.salesConfirmationKey, salesConfirmationDTO);
-            log.info("Message was sent successfully!");
+            while (!this.unconfirmed.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(SHUTDOWN_POLL_INTERVAL);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.unconfirmed.keySet().forEach(publishId -> {
+            var pendingConfirmation = this.unconfirmed.remove(publishId);
+            if (pendingConfirmation != null) {
+                this.abandon(pendingConfirmation, "no broker confirm was received before shutdown");
+            }
+        });
+        pendingConfirmations.clear();
+        this.buffer.drainTo(pendingConfirmations);
+        pendingConfirmations.forEach(pendingConfirmation -> this.abandon(pendingConfirmation, "the application is shutting down"));
+    }
+
+    private void publishPending(PendingConfirmation pendingConfirmation) {
+        var publishId = new Object();
+        this.unconfirmed.put(publishId, pendingConfirmation);
+        try {
+            this.publish(pendingConfirmation.salesConfirmationDTO()).whenComplete((confirmed, error) -> {
+                if (this.unconfirmed.remove(publishId) != null && !Boolean.TRUE.equals(confirmed)) {
+                    this.retry(pendingConfirmation, error == null ? "the message was not confirmed by the broker" : error.getMessage());
+                }
+            });
         } catch (Exception e) {
-            log.info("Error while trying to send sales confirmation message: ", e);
+            this.unconfirmed.remove(publishId);
+            this.retry(pendingConfirmation, e.getMessage());
         }
     }
+
+    private void publishAndWait(PendingConfirmation pendingConfirmation) {
+        try {
+            if (!this.publish(pendingConfirmation.salesConfirmationDTO()).get(this.confirmTimeout, TimeUnit.MILLISECONDS)) {
+                this.retry(pendingConfirmation, "the message was not confirmed by the broker");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.retry(pendingConfirmation, "interrupted while waiting for the broker confirm");
+        } catch (ExecutionException e) {
+            this.retry(pendingConfirmation, e.getCause().getMessage());
+        } catch (Exception e) {
+            this.retry(pendingConfirmation, e.getMessage());
+        }
+    }
+
+    private void retry(PendingConfirmation pendingConfirmation, String reason) {
+        var salesConfirmationDTO = pendingConfirmation.salesConfirmationDTO();
+        if (this.shuttingDown) {
+            this.abandon(pendingConfirmation, reason);
+            return;
+        }
+        if (pendingConfirmation.attempt() >= this.maxAttempts) {
+            this.exhaustedDeliveries.increment();
+            log.error("Sales confirmation for sales {} with status {} and transactionId {} was not delivered after {} attempts: {}", salesConfirmationDTO.getSalesId(), salesConfirmationDTO.getStatus(), salesConfirmationDTO.getTransactionid(), pendingConfirmation.attempt(), reason);
+            return;
+        }
+        this.retriedDeliveries.increment();
+        log.warn("Error while trying to send sales confirmation for sales {}: {}. Retrying attempt {} of {}.", salesConfirmationDTO.getSalesId(), reason, pendingConfirmation.attempt() + 1, this.maxAttempts);
+        this.requeue(new PendingConfirmation(salesConfirmationDTO, pendingConfirmation.attempt() + 1, System.currentTimeMillis() + this.getBackoff(pendingConfirmation.attempt())));
+    }
+
+    private void requeue(PendingConfirmation pendingConfirmation) {
+        if (!this.buffer.offer(pendingConfirmation)) {
+            var salesConfirmationDTO = pendingConfirmation.salesConfirmationDTO();
+            this.droppedDeliveries.increment();
+            log.error("Sales confirmation for sales {} with status {} and transactionId {} was dropped because the buffer is full.", salesConfirmationDTO.getSalesId(), salesConfirmationDTO.getStatus(), salesConfirmationDTO.getTransactionid());
+        }
+    }
+
+    private void abandon(PendingConfirmation pendingConfirmation, String reason) {
+        var salesConfirmationDTO = pendingConfirmation.salesConfirmationDTO();
+        this.abandonedDeliveries.increment();
+        log.error("Sales confirmation for sales {} with status {} and transactionId {} was not delivered before shutdown after {} attempts: {}", salesConfirmationDTO.getSalesId(), salesConfirmationDTO.getStatus(), salesConfirmationDTO.getTransactionid(), pendingConfirmation.attempt(), reason);
+    }
+
+    private long getBackoff(Integer attempt) {
+        var backoff = this.retryBackoff << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+        return Math.min(backoff, this.maxRetryBackoff);
+    }
+
+    private Timer publishTimer(String outcome) {
+        return Timer.builder(PUBLISH_METRIC).tag(OUTCOME_TAG, outcome).publishPercentileHistogram().register(this.meterRegistry);
+    }
+
+    private record PendingConfirmation(SalesConfirmationDTO salesConfirmationDTO, Integer attempt, long notBefore) {
+    }
 }
@@ -0,0 +1,20 @@
+package br.com.cursoudemy.productapi.modules.sales.repository;
+
+import br.com.cursoudemy.productapi.modules.sales.model.SalesConfirmationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SalesConfirmationOutboxRepository extends JpaRepository<SalesConfirmationOutbox, Long> {
+    @Query(value = "SELECT * FROM SALES_CONFIRMATION_OUTBOX WHERE LEASED_UNTIL IS NULL OR LEASED_UNTIL < :now ORDER BY ID LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<SalesConfirmationOutbox> findClaimableForUpdate(@Param("now") LocalDateTime now, @Param("limit") Integer limit);
+
+    @Modifying
+    @Query("update SalesConfirmationOutbox s set s.leasedUntil = :leasedUntil where s.id in :ids")
+    int updateLease(@Param("ids") Collection<Long> ids, @Param("leasedUntil") LocalDateTime leasedUntil);
+}
@@ -0,0 +1,42 @@
+package br.com.cursoudemy.productapi.modules.sales.service;
+
+import br.com.cursoudemy.productapi.modules.sales.dto.SalesConfirmationDTO;
+import br.com.cursoudemy.productapi.modules.sales.model.SalesConfirmationOutbox;
+import br.com.cursoudemy.productapi.modules.sales.rabbitmq.SalesConfirmationSender;
+import br.com.cursoudemy.productapi.modules.sales.repository.SalesConfirmationOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SalesConfirmationService {
+    private final SalesConfirmationOutboxRepository salesConfirmationOutboxRepository;
+    private final SalesConfirmationSender salesConfirmationSender;
+    @Value("${app-config.outbox.enabled}")
+    private Boolean outboxEnabled;
+
+    public void confirm(List<SalesConfirmationDTO> salesConfirmationDTOs) {
+        if (salesConfirmationDTOs.isEmpty()) {
+            return;
+        }
+        if (this.outboxEnabled) {
+            this.salesConfirmationOutboxRepository.saveAll(salesConfirmationDTOs.stream().map(SalesConfirmationOutbox::of).toList());
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    salesConfirmationSender.sendSalesConfirmationMessages(salesConfirmationDTOs);
+                }
+            });
+            return;
+        }
+        this.salesConfirmationSender.sendSalesConfirmationMessages(salesConfirmationDTOs);
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.cursoudemy.productapi.modules.sales.service;
+
+import br.com.cursoudemy.productapi.config.RequestUtil;
+import br.com.cursoudemy.productapi.config.cache.CatalogCache;
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import br.com.cursoudemy.productapi.config.logging.LogPayloads;
+import br.com.cursoudemy.productapi.modules.sales.client.SalesClient;
+import br.com.cursoudemy.productapi.modules.sales.dto.SalesProductResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SalesProductService {
+    private static final String TRANSACTION_ID = "transactionid", AUTHORIZATION = "Authorization";
+    private final SalesClient salesClient;
+    private final CacheManager cacheManager;
+    private final LogPayloads logPayloads;
+    @Value("${app-config.services.sales.max-concurrency}")
+    private Integer maxConcurrency;
+
+    public List<String> findSalesIdsByProductId(Integer productId) {
+        var cachedSalesIds = this.getCachedSalesIds(productId);
+        if (cachedSalesIds != null) {
+            return cachedSalesIds;
+        }
+        return this.fetchSalesIds(productId);
+    }
+
+    public boolean hasSales(Integer productId) {
+        if (!isEmpty(this.getCachedSalesIds(productId))) {
+            return true;
+        }
+        return !isEmpty(this.fetchSalesIds(productId));
+    }
+
+    public Map<Integer, List<String>> findSalesIdsByProductIds(Collection<Integer> productIds) {
+        var sales = new HashMap<Integer, List<String>>();
+        var missingProductIds = new ArrayList<Integer>();
+        productIds.forEach(productId -> {
+            var cachedSalesIds = this.getCachedSalesIds(productId);
+            if (cachedSalesIds != null) {
+                sales.put(productId, cachedSalesIds);
+            } else {
+                missingProductIds.add(productId);
+            }
+        });
+        if (!missingProductIds.isEmpty()) {
+            var currentRequest = RequestUtil.getCurrentRequest();
+            var authorization = currentRequest.getHeader(AUTHORIZATION);
+            var transactionId = currentRequest.getHeader(TRANSACTION_ID);
+            log.info("Sending GET request to orders by productId with data {}", missingProductIds);
+            var fetchedSales = Flux.fromIterable(missingProductIds)
+                    .flatMap(productId -> this.salesClient.findSalesByProductIdAsync(productId, authorization, transactionId)
+                            .switchIfEmpty(Mono.error(() -> new ValidationException("The sales was not found by this product.")))
+                            .map(response -> Map.entry(productId, this.cacheSalesIds(productId, response))), this.maxConcurrency)
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .block();
+            log.info("Receiving response from orders by productId with data {}", this.logPayloads.of(fetchedSales));
+            sales.putAll(fetchedSales);
+        }
+        return sales;
+    }
+
+    private List<String> fetchSalesIds(Integer productId) {
+        var currentRequest = RequestUtil.getCurrentRequest();
+        log.info("Sending GET request to orders by productId with data {}", productId);
+        var response = this.salesClient.findSalesByProductId(productId, currentRequest.getHeader(AUTHORIZATION), currentRequest.getHeader(TRANSACTION_ID))
+                .orElseThrow(() -> new ValidationException("The sales was not found by this product."));
+        log.info("Receiving response from orders by productId with data {}", this.logPayloads.of(response));
+        return this.cacheSalesIds(productId, response);
+    }
+
+    private List<String> cacheSalesIds(Integer productId, SalesProductResponse response) {
+        var salesIds = isEmpty(response.getSalesIds()) ? List.<String>of() : List.copyOf(response.getSalesIds());
+        var cache = this.cacheManager.getCache(CatalogCache.PRODUCT_SALES);
+        if (cache != null) {
+            cache.put(productId, salesIds);
+        }
+        return salesIds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getCachedSalesIds(Integer productId) {
+        var cache = this.cacheManager.getCache(CatalogCache.PRODUCT_SALES);
+        var cachedSalesIds = cache == null ? null : cache.get(productId);
+        return cachedSalesIds == null ? null : (List<String>) cachedSalesIds.get();
+    }
+}
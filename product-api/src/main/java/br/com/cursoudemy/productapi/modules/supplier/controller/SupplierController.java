@@ -5,10 +5,14 @@ import br.com.cursoudemy.productapi.modules.supplier.dto.SupplierRequest;
 import br.com.cursoudemy.productapi.modules.supplier.dto.SupplierResponse;
 import br.com.cursoudemy.productapi.modules.supplier.service.SupplierService;
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
+import static org.springframework.util.ObjectUtils.isEmpty;
+
 @RestController
 @RequestMapping("/api/supplier")
 @AllArgsConstructor
@@ -21,8 +25,16 @@ public class SupplierController {
     }
 
     @GetMapping
-    public List<SupplierResponse> findAll() {
-        return this.supplierService.findAll();
+    public List<SupplierResponse> findAll(@RequestParam(required = false) Integer after, @RequestParam(required = false) Integer limit) {
+        if (isEmpty(after) && isEmpty(limit)) {
+            return this.supplierService.findAll();
+        }
+        return this.supplierService.findAll(after, limit);
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody exportAll() {
+        return this.supplierService::exportAll;
     }
 
     @GetMapping("{id}")
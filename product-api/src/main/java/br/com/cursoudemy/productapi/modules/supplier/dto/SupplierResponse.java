@@ -14,4 +14,11 @@ public class SupplierResponse {
         BeanUtils.copyProperties(supplier, response);
         return response;
     }
+
+    public static SupplierResponse of(Integer id, String name) {
+        var response = new SupplierResponse();
+        response.setId(id);
+        response.setName(name);
+        return response;
+    }
 }
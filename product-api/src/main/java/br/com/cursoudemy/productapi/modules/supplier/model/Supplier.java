@@ -14,7 +14,8 @@ import org.springframework.beans.BeanUtils;
 @Table(name = "SUPPLIER")
 public class Supplier {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "supplier_sequence")
+    @SequenceGenerator(name = "supplier_sequence", sequenceName = "SUPPLIER_SEQUENCE", allocationSize = 50)
     private Integer id;
     @Column(name = "NAME", nullable = false)
     private String name;
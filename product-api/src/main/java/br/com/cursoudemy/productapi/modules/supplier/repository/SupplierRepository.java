@@ -1,10 +1,24 @@
 package br.com.cursoudemy.productapi.modules.supplier.repository;
 
+import br.com.cursoudemy.productapi.config.PaginationUtil;
 import br.com.cursoudemy.productapi.modules.supplier.model.Supplier;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface SupplierRepository extends JpaRepository<Supplier, Integer> {
     List<Supplier> findByNameIgnoreCaseContaining(String name);
+    List<Supplier> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limit);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = PaginationUtil.STREAM_FETCH_SIZE), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("SELECT s FROM Supplier s ORDER BY s.id")
+    Stream<Supplier> streamAll();
 }
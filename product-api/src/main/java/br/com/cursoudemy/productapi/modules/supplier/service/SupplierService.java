@@ -1,5 +1,8 @@
 package br.com.cursoudemy.productapi.modules.supplier.service;
 
+import br.com.cursoudemy.productapi.config.NdjsonExporter;
+import br.com.cursoudemy.productapi.config.PaginationUtil;
+import br.com.cursoudemy.productapi.config.cache.CatalogCache;
 import br.com.cursoudemy.productapi.config.exception.SuccessResponse;
 import br.com.cursoudemy.productapi.config.exception.ValidationException;
 import br.com.cursoudemy.productapi.modules.product.service.ProductService;
@@ -8,9 +11,13 @@ import br.com.cursoudemy.productapi.modules.supplier.dto.SupplierResponse;
 import br.com.cursoudemy.productapi.modules.supplier.model.Supplier;
 import br.com.cursoudemy.productapi.modules.supplier.repository.SupplierRepository;
 import lombok.AllArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,13 +27,25 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 @AllArgsConstructor(onConstructor_ = {@Lazy})
 public class SupplierService {
     private final SupplierRepository supplierRepository;
+    private final CatalogCache catalogCache;
+    private final NdjsonExporter ndjsonExporter;
     @Lazy
     private final ProductService productService;
 
+    @Cacheable(cacheNames = CatalogCache.SUPPLIER_LISTS, key = "'all'")
     public List<SupplierResponse> findAll() {
         return this.supplierRepository.findAll().stream().map(SupplierResponse::of).collect(Collectors.toList());
     }
 
+    public List<SupplierResponse> findAll(Integer after, Integer limit) {
+        return this.supplierRepository.findByIdGreaterThanOrderByIdAsc(PaginationUtil.getCursor(after), PaginationUtil.getLimit(limit)).stream().map(SupplierResponse::of).collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream outputStream) throws IOException {
+        this.ndjsonExporter.export(this.supplierRepository.streamAll(), SupplierResponse::of, outputStream);
+    }
+
     public List<SupplierResponse> findByName(String name) {
         if (isEmpty(name)) {
             throw new ValidationException("The supplier name must be informed.");
@@ -34,6 +53,7 @@ public class SupplierService {
         return this.supplierRepository.findByNameIgnoreCaseContaining(name).stream().map(SupplierResponse::of).collect(Collectors.toList());
     }
 
+    @Cacheable(cacheNames = CatalogCache.SUPPLIERS, key = "#id")
     public SupplierResponse findByIdResponse(Integer id) {
         return SupplierResponse.of(this.findById(id));
     }
@@ -46,6 +66,7 @@ public class SupplierService {
     public SupplierResponse save(SupplierRequest supplierRequest) {
         this.validateSupplierNameInformed(supplierRequest);
         var supplier = this.supplierRepository.save(Supplier.of(supplierRequest));
+        this.catalogCache.evictSupplier(supplier.getId());
         return SupplierResponse.of(supplier);
     }
 
@@ -55,6 +76,7 @@ public class SupplierService {
         var supplier = Supplier.of(supplierRequest);
         supplier.setId(id);
         this.supplierRepository.save(supplier);
+        this.catalogCache.evictSupplier(id);
         return SupplierResponse.of(supplier);
     }
 
@@ -70,6 +92,7 @@ public class SupplierService {
             throw new ValidationException("You cannot delete this supplier because it's already defined by a product.");
         }
         this.supplierRepository.deleteById(id);
+        this.catalogCache.evictSupplier(id);
         return SuccessResponse.create("The supplier was deleted.");
     }
 
@@ -0,0 +1,8 @@
+create extension if not exists pg_trgm;
+create index if not exists idx_product_name_trgm on product using gin (upper(name) gin_trgm_ops);
+create index if not exists idx_supplier_name_trgm on supplier using gin (upper(name) gin_trgm_ops);
+create index if not exists idx_category_description_trgm on category using gin (upper(description) gin_trgm_ops);
+
+select setval('category_sequence', (select max(id) + 50 from category), false);
+select setval('supplier_sequence', (select max(id) + 50 from supplier), false);
+select setval('product_sequence', (select max(id) + 50 from product), false);
@@ -0,0 +1,142 @@
+package br.com.cursoudemy.productapi.config;
+
+import br.com.cursoudemy.productapi.config.cache.CatalogCache;
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import br.com.cursoudemy.productapi.modules.sales.SalesApiStub;
+import br.com.cursoudemy.productapi.modules.sales.SalesApiTestConfig;
+import br.com.cursoudemy.productapi.modules.sales.client.SalesClient;
+import br.com.cursoudemy.productapi.modules.sales.service.SalesProductService;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = SalesApiTestConfig.class, webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "app-config.services.sales.response-timeout=200",
+        "app-config.services.sales.retry.max-retries=2",
+        "app-config.services.sales.retry.backoff=10",
+        "app-config.services.sales.retry.max-backoff=20",
+        "app-config.services.sales.retry.jitter=0",
+        "app-config.services.sales.circuit-breaker.failure-rate-threshold=50",
+        "app-config.services.sales.circuit-breaker.sliding-window-size=4",
+        "app-config.services.sales.circuit-breaker.minimum-number-of-calls=4",
+        "app-config.services.sales.circuit-breaker.wait-duration-in-open-state=60000",
+        "app-config.services.sales.circuit-breaker.permitted-calls-in-half-open-state=1"})
+class HttpInterfaceConfigTest {
+    private static final Integer PRODUCT_ID = 1001, ATTEMPTS = 3;
+    private static final String AUTHORIZATION = "Bearer token", TRANSACTION_ID = "http-interface-config-test";
+    private static final Duration SLOW_RESPONSE = Duration.ofSeconds(1);
+    private static final SalesApiStub SALES_API = SalesApiStub.start();
+    @Autowired
+    private SalesClient salesClient;
+    @Autowired
+    private SalesProductService salesProductService;
+    @Autowired
+    private CircuitBreaker salesCircuitBreaker;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @DynamicPropertySource
+    static void salesApiProperties(DynamicPropertyRegistry registry) {
+        registry.add("app-config.services.sales.url", SALES_API::getUrl);
+    }
+
+    @AfterAll
+    static void stopSalesApi() {
+        SALES_API.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SALES_API.reset();
+        this.salesCircuitBreaker.reset();
+        this.cacheManager.getCache(CatalogCache.PRODUCT_SALES).clear();
+        var request = new MockHttpServletRequest();
+        request.addHeader("Authorization", AUTHORIZATION);
+        request.addHeader("transactionid", TRANSACTION_ID);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void serverError_shouldBeRetriedUntilItSucceeds() {
+        SALES_API.respondWith((productId, request) -> request < ATTEMPTS ? SalesApiStub.Response.status(503) : SalesApiStub.Response.ok(productId));
+
+        var response = this.salesClient.findSalesByProductId(PRODUCT_ID, AUTHORIZATION, TRANSACTION_ID);
+
+        assertThat(response).hasValueSatisfying(sales -> assertThat(sales.getSalesIds()).containsExactly("sale-" + PRODUCT_ID));
+        assertThat(SALES_API.getRequests()).isEqualTo(ATTEMPTS);
+    }
+
+    @Test
+    void slowResponse_shouldTimeOutAfterEveryRetry() {
+        SALES_API.respondWith((productId, request) -> SalesApiStub.Response.ok(productId).delayedBy(SLOW_RESPONSE));
+
+        assertThatThrownBy(() -> this.salesClient.findSalesByProductId(PRODUCT_ID, AUTHORIZATION, TRANSACTION_ID))
+                .isInstanceOf(WebClientRequestException.class);
+        assertThat(SALES_API.getRequests()).isEqualTo(ATTEMPTS);
+    }
+
+    @Test
+    void clientError_shouldNotBeRetried() {
+        SALES_API.respondWith((productId, request) -> SalesApiStub.Response.status(404));
+
+        assertThatThrownBy(() -> this.salesClient.findSalesByProductId(PRODUCT_ID, AUTHORIZATION, TRANSACTION_ID))
+                .isInstanceOf(WebClientResponseException.NotFound.class);
+        assertThat(SALES_API.getRequests()).isEqualTo(1);
+        assertThat(this.salesCircuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        assertThat(this.salesCircuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedServerErrors_shouldOpenTheCircuitAndStopCallingTheSalesApi() {
+        SALES_API.respondWith((productId, request) -> SalesApiStub.Response.status(500));
+
+        assertThatThrownBy(() -> this.salesClient.findSalesByProductId(PRODUCT_ID, AUTHORIZATION, TRANSACTION_ID))
+                .isInstanceOf(WebClientResponseException.InternalServerError.class);
+        assertThatThrownBy(() -> this.salesClient.findSalesByProductId(PRODUCT_ID, AUTHORIZATION, TRANSACTION_ID))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("The Sales-API is temporarily unavailable.");
+        assertThat(this.salesCircuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        var requests = SALES_API.getRequests();
+
+        assertThatThrownBy(() -> this.salesClient.findSalesByProductId(PRODUCT_ID, AUTHORIZATION, TRANSACTION_ID))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("The Sales-API is temporarily unavailable.");
+        assertThat(SALES_API.getRequests()).isEqualTo(requests);
+    }
+
+    @Test
+    void openCircuit_shouldStillServeCachedSales() {
+        this.cacheManager.getCache(CatalogCache.PRODUCT_SALES).put(PRODUCT_ID, List.of("cached-sale"));
+        this.salesCircuitBreaker.transitionToOpenState();
+
+        assertThat(this.salesProductService.findSalesIdsByProductId(PRODUCT_ID)).containsExactly("cached-sale");
+        assertThat(this.salesProductService.hasSales(PRODUCT_ID)).isTrue();
+        assertThatThrownBy(() -> this.salesProductService.findSalesIdsByProductId(1002))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("The Sales-API is temporarily unavailable.");
+        assertThat(SALES_API.getRequests()).isZero();
+    }
+}
@@ -0,0 +1,110 @@
+package br.com.cursoudemy.productapi.config.cache;
+
+import br.com.cursoudemy.productapi.ProductApiApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@Testcontainers
+class CatalogCacheIntegrationTest {
+    private static final Integer PRODUCT_ID = 1001, OTHER_PRODUCT_ID = 1002;
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(10);
+    @Container
+    private static final RabbitMQContainer RABBIT_MQ = new RabbitMQContainer(DockerImageName.parse("rabbitmq:3-management"));
+    private ConfigurableApplicationContext firstReplica, secondReplica;
+
+    @BeforeEach
+    void setUp() {
+        this.firstReplica = this.startReplica();
+        this.secondReplica = this.startReplica();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.secondReplica.close();
+        this.firstReplica.close();
+    }
+
+    @Test
+    void evictProduct_shouldEvictTheProductOnEveryReplica() {
+        var firstProducts = this.getCache(this.firstReplica, CatalogCache.PRODUCTS);
+        var secondProducts = this.getCache(this.secondReplica, CatalogCache.PRODUCTS);
+        var secondProductLists = this.getCache(this.secondReplica, CatalogCache.PRODUCT_LISTS);
+        firstProducts.put(PRODUCT_ID, "cached");
+        secondProducts.put(PRODUCT_ID, "cached");
+        secondProducts.put(OTHER_PRODUCT_ID, "cached");
+        secondProductLists.put("all", "cached");
+
+        this.firstReplica.getBean(CatalogCache.class).evictProduct(PRODUCT_ID, 1L);
+
+        assertThat(firstProducts.get(PRODUCT_ID)).isNull();
+        await().atMost(PROPAGATION_TIMEOUT).untilAsserted(() -> {
+            assertThat(secondProducts.get(PRODUCT_ID)).isNull();
+            assertThat(secondProductLists.get("all")).isNull();
+        });
+        assertThat(secondProducts.get(OTHER_PRODUCT_ID)).isNotNull();
+    }
+
+    @Test
+    void evictProducts_shouldBroadcastTheStockUpdatesInOneMessage() {
+        var secondProducts = this.getCache(this.secondReplica, CatalogCache.PRODUCTS);
+        var secondProductLists = this.getCache(this.secondReplica, CatalogCache.PRODUCT_LISTS);
+        secondProducts.put(PRODUCT_ID, "cached");
+        secondProducts.put(OTHER_PRODUCT_ID, "cached");
+        secondProductLists.put("all", "cached");
+
+        var catalogCache = this.firstReplica.getBean(CatalogCache.class);
+        catalogCache.evictProducts(List.of(PRODUCT_ID));
+        catalogCache.evictProducts(List.of(OTHER_PRODUCT_ID));
+
+        await().atMost(PROPAGATION_TIMEOUT).untilAsserted(() -> {
+            assertThat(secondProducts.get(PRODUCT_ID)).isNull();
+            assertThat(secondProducts.get(OTHER_PRODUCT_ID)).isNull();
+            assertThat(secondProductLists.get("all")).isNull();
+        });
+    }
+
+    @Test
+    void evictCategory_shouldClearDependentProductsOnEveryReplica() {
+        var secondCategories = this.getCache(this.secondReplica, CatalogCache.CATEGORIES);
+        var secondProducts = this.getCache(this.secondReplica, CatalogCache.PRODUCTS);
+        secondCategories.put(1000, "cached");
+        secondProducts.put(PRODUCT_ID, "cached");
+
+        this.firstReplica.getBean(CatalogCache.class).evictCategory(1000);
+
+        await().atMost(PROPAGATION_TIMEOUT).untilAsserted(() -> {
+            assertThat(secondCategories.get(1000)).isNull();
+            assertThat(secondProducts.get(PRODUCT_ID)).isNull();
+        });
+    }
+
+    private ConfigurableApplicationContext startReplica() {
+        return new SpringApplicationBuilder(ProductApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.rabbitmq.host=" + RABBIT_MQ.getHost(),
+                        "--spring.rabbitmq.port=" + RABBIT_MQ.getAmqpPort(),
+                        "--spring.rabbitmq.username=" + RABBIT_MQ.getAdminUsername(),
+                        "--spring.rabbitmq.password=" + RABBIT_MQ.getAdminPassword());
+    }
+
+    private Cache getCache(ConfigurableApplicationContext replica, String cacheName) {
+        return replica.getBean(CacheManager.class).getCache(cacheName);
+    }
+}
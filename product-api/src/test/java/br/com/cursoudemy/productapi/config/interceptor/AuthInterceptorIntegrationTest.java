@@ -0,0 +1,59 @@
+package br.com.cursoudemy.productapi.config.interceptor;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AuthInterceptorIntegrationTest {
+    private static final String AUTHORIZATION = "Authorization", TRANSACTION_ID = "transactionid", TRANSACTION_ID_VALUE = "auth-interceptor-test";
+    @Autowired
+    private MockMvc mockMvc;
+    @Value("${app-config.secrets.api-secret}")
+    private String apiSecret;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/product", "/api/product/1001", "/api/product;x/1001", "/api/product/1001;jsessionid=x", "/api/supplier;x", "/api/category;x/1000"})
+    void protectedUrl_withoutToken_shouldBeUnauthorized(String url) throws Exception {
+        this.mockMvc.perform(get(url).header(TRANSACTION_ID, TRANSACTION_ID_VALUE))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void protectedUrl_withContextPathAndPathParameter_shouldBeUnauthorized() throws Exception {
+        this.mockMvc.perform(get("/product-api/api/product;x/1001").contextPath("/product-api").header(TRANSACTION_ID, TRANSACTION_ID_VALUE))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void protectedUrl_withValidToken_shouldBeAuthorized() throws Exception {
+        this.mockMvc.perform(get("/api/category;x").header(TRANSACTION_ID, TRANSACTION_ID_VALUE).header(AUTHORIZATION, "Bearer " + this.createToken()))
+                .andExpect(status().isOk());
+    }
+
+    private String createToken() {
+        return Jwts.builder()
+                .claim("authUser", Map.of("id", 1, "name", "Test User", "email", "test@email.com"))
+                .setExpiration(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .signWith(Keys.hmacShaKeyFor(this.apiSecret.getBytes()))
+                .compact();
+    }
+}
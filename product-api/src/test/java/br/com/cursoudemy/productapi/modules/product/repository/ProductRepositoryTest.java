@@ -0,0 +1,105 @@
+package br.com.cursoudemy.productapi.modules.product.repository;
+
+import br.com.cursoudemy.productapi.config.LikePatternUtil;
+import br.com.cursoudemy.productapi.modules.category.model.Category;
+import br.com.cursoudemy.productapi.modules.product.dto.ProductView;
+import br.com.cursoudemy.productapi.modules.product.model.Product;
+import br.com.cursoudemy.productapi.modules.supplier.model.Supplier;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class ProductRepositoryTest {
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    private Statistics statistics;
+    private Integer supplierId, categoryId;
+
+    @BeforeEach
+    void setUp() {
+        var supplier = this.testEntityManager.persist(new Supplier(null, "Test Supplier"));
+        var category = this.testEntityManager.persist(new Category(null, "Test Category"));
+        for (var name : new String[]{"100% Cotton Shirt", "Cotton_Shirt", "Cotton Shirt"}) {
+            this.testEntityManager.persist(Product.builder().name(name).quantityAvailable(10).supplier(supplier).category(category).build());
+        }
+        this.testEntityManager.flush();
+        this.testEntityManager.clear();
+        this.supplierId = supplier.getId();
+        this.categoryId = category.getId();
+        this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.clear();
+    }
+
+    @Test
+    void findAllViews_shouldLoadSuppliersAndCategoriesInOneStatement() {
+        var views = this.productRepository.findAllViews();
+
+        assertThat(views).extracting(ProductView::getSupplierName).contains("Test Supplier");
+        assertThat(views).extracting(ProductView::getCategoryDescription).contains("Test Category");
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findViewsAfter_shouldLoadAPageInOneStatement() {
+        var views = this.productRepository.findViewsAfter(0, Limit.of(2));
+
+        assertThat(views).hasSize(2);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findViewsByName_shouldLoadMatchesInOneStatement() {
+        var views = this.productRepository.findViewsByName(LikePatternUtil.escape("cotton"));
+
+        assertThat(views).hasSize(3);
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findViewsByCategoryId_shouldLoadMatchesInOneStatement() {
+        var views = this.productRepository.findViewsByCategoryId(this.categoryId);
+
+        assertThat(views).hasSize(3).extracting(ProductView::getCategoryDescription).containsOnly("Test Category");
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findViewsBySupplierId_shouldLoadMatchesInOneStatement() {
+        var views = this.productRepository.findViewsBySupplierId(this.supplierId);
+
+        assertThat(views).hasSize(3).extracting(ProductView::getSupplierName).containsOnly("Test Supplier");
+        assertThat(this.statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(this.statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void findViewsByName_shouldMatchWildcardCharactersLiterally() {
+        assertThat(this.productRepository.findViewsByName(LikePatternUtil.escape("%")))
+                .extracting(ProductView::getName).containsExactly("100% Cotton Shirt");
+        assertThat(this.productRepository.findViewsByName(LikePatternUtil.escape("_")))
+                .extracting(ProductView::getName).containsExactly("Cotton_Shirt");
+        assertThat(this.productRepository.findViewsByName(LikePatternUtil.escape("cotton shirt")))
+                .extracting(ProductView::getName).containsExactly("100% Cotton Shirt", "Cotton Shirt");
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.cursoudemy.productapi.modules.sales;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SalesApiStub implements AutoCloseable {
+    private static final String PRODUCT_PATH = "/api/orders/product/";
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requests = new AtomicInteger(), inFlight = new AtomicInteger(), maxInFlight = new AtomicInteger();
+    private volatile Responder responder = (productId, request) -> Response.ok(productId);
+
+    private SalesApiStub(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    public static SalesApiStub start() {
+        try {
+            var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            var executor = Executors.newCachedThreadPool();
+            var stub = new SalesApiStub(server, executor);
+            server.createContext(PRODUCT_PATH, stub::handle);
+            server.setExecutor(executor);
+            server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new IllegalStateException("The Sales-API stub could not be started.", e);
+        }
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + this.server.getAddress().getPort();
+    }
+
+    public void respondWith(Responder responder) {
+        this.responder = responder;
+    }
+
+    public int getRequests() {
+        return this.requests.get();
+    }
+
+    public int getMaxInFlight() {
+        return this.maxInFlight.get();
+    }
+
+    public void reset() {
+        this.responder = (productId, request) -> Response.ok(productId);
+        this.requests.set(0);
+        this.inFlight.set(0);
+        this.maxInFlight.set(0);
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        var request = this.requests.incrementAndGet();
+        this.maxInFlight.accumulateAndGet(this.inFlight.incrementAndGet(), Math::max);
+        try {
+            var productId = Integer.valueOf(exchange.getRequestURI().getPath().substring(PRODUCT_PATH.length()));
+            var response = this.responder.respond(productId, request);
+            Thread.sleep(response.delay().toMillis());
+            var body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                exchange.getResponseBody().write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Responder {
+        Response respond(Integer productId, int request);
+    }
+
+    public record Response(int status, String body, Duration delay) {
+        public static Response ok(Integer productId) {
+            return new Response(200, String.format("{\"salesIds\":[\"sale-%s\"]}", productId), Duration.ZERO);
+        }
+
+        public static Response status(int status) {
+            return new Response(status, "", Duration.ZERO);
+        }
+
+        public Response delayedBy(Duration delay) {
+            return new Response(this.status, this.body, delay);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.cursoudemy.productapi.modules.sales;
+
+import br.com.cursoudemy.productapi.config.HttpInterfaceConfig;
+import br.com.cursoudemy.productapi.config.cache.CatalogCache;
+import br.com.cursoudemy.productapi.config.logging.LogPayloads;
+import br.com.cursoudemy.productapi.modules.sales.service.SalesProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.codec.CodecsAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.reactive.function.client.WebClientAutoConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, CodecsAutoConfiguration.class, WebClientAutoConfiguration.class})
+@Import({HttpInterfaceConfig.class, SalesProductService.class, LogPayloads.class})
+public class SalesApiTestConfig {
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public CacheManager cacheManager() {
+        return new ConcurrentMapCacheManager(CatalogCache.PRODUCT_SALES);
+    }
+}
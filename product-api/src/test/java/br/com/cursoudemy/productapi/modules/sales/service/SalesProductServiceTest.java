@@ -0,0 +1,115 @@
+package br.com.cursoudemy.productapi.modules.sales.service;
+
+import br.com.cursoudemy.productapi.config.cache.CatalogCache;
+import br.com.cursoudemy.productapi.config.exception.ValidationException;
+import br.com.cursoudemy.productapi.modules.sales.SalesApiStub;
+import br.com.cursoudemy.productapi.modules.sales.SalesApiTestConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(classes = SalesApiTestConfig.class, webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "app-config.services.sales.max-concurrency=4")
+class SalesProductServiceTest {
+    private static final Integer MAX_CONCURRENCY = 4, MISSING_PRODUCT_ID = 1013;
+    private static final String AUTHORIZATION = "Bearer token", TRANSACTION_ID = "sales-product-service-test";
+    private static final Duration RESPONSE_DELAY = Duration.ofMillis(100);
+    private static final SalesApiStub SALES_API = SalesApiStub.start();
+    @Autowired
+    private SalesProductService salesProductService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    @DynamicPropertySource
+    static void salesApiProperties(DynamicPropertyRegistry registry) {
+        registry.add("app-config.services.sales.url", SALES_API::getUrl);
+    }
+
+    @AfterAll
+    static void stopSalesApi() {
+        SALES_API.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        SALES_API.reset();
+        this.cacheManager.getCache(CatalogCache.PRODUCT_SALES).clear();
+        var request = new MockHttpServletRequest();
+        request.addHeader("Authorization", AUTHORIZATION);
+        request.addHeader("transactionid", TRANSACTION_ID);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void findSalesIdsByProductIds_shouldFanOutWithBoundedConcurrency() {
+        SALES_API.respondWith((productId, request) -> SalesApiStub.Response.ok(productId).delayedBy(RESPONSE_DELAY));
+        var productIds = IntStream.rangeClosed(1001, 1020).boxed().toList();
+
+        var sales = this.salesProductService.findSalesIdsByProductIds(productIds);
+
+        assertThat(sales).hasSize(productIds.size());
+        productIds.forEach(productId -> assertThat(sales.get(productId)).containsExactly("sale-" + productId));
+        assertThat(SALES_API.getRequests()).isEqualTo(productIds.size());
+        assertThat(SALES_API.getMaxInFlight()).isGreaterThan(1).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+
+    @Test
+    void findSalesIdsByProductIds_shouldOnlyRequestProductsMissingFromTheCache() {
+        this.cacheManager.getCache(CatalogCache.PRODUCT_SALES).put(1001, List.of("cached-sale"));
+
+        var sales = this.salesProductService.findSalesIdsByProductIds(List.of(1001, 1002));
+
+        assertThat(sales.get(1001)).containsExactly("cached-sale");
+        assertThat(sales.get(1002)).containsExactly("sale-1002");
+        assertThat(SALES_API.getRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void findSalesIdsByProductId_shouldNotNeedTheCurrentRequestOnACacheHit() {
+        this.cacheManager.getCache(CatalogCache.PRODUCT_SALES).put(1001, List.of("cached-sale"));
+        RequestContextHolder.resetRequestAttributes();
+
+        assertThat(this.salesProductService.findSalesIdsByProductId(1001)).containsExactly("cached-sale");
+        assertThat(this.salesProductService.findSalesIdsByProductIds(List.of(1001))).containsEntry(1001, List.of("cached-sale"));
+        assertThat(SALES_API.getRequests()).isZero();
+    }
+
+    @Test
+    void findSalesIdsByProductIds_shouldPropagateAnErrorResponse() {
+        SALES_API.respondWith((productId, request) -> MISSING_PRODUCT_ID.equals(productId) ? SalesApiStub.Response.status(404) : SalesApiStub.Response.ok(productId));
+        var productIds = IntStream.rangeClosed(1001, 1020).boxed().toList();
+
+        assertThatThrownBy(() -> this.salesProductService.findSalesIdsByProductIds(productIds))
+                .isInstanceOf(WebClientResponseException.NotFound.class);
+    }
+
+    @Test
+    void findSalesIdsByProductIds_shouldRejectAnEmptyResponse() {
+        SALES_API.respondWith((productId, request) -> MISSING_PRODUCT_ID.equals(productId) ? SalesApiStub.Response.status(200) : SalesApiStub.Response.ok(productId));
+
+        assertThatThrownBy(() -> this.salesProductService.findSalesIdsByProductIds(List.of(1001, MISSING_PRODUCT_ID)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("The sales was not found by this product.");
+    }
+}